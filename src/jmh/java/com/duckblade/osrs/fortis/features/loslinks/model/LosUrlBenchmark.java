@@ -0,0 +1,81 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import com.duckblade.osrs.fortis.util.spawns.Enemy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LosUrlBenchmark
+{
+
+	private NpcSpawn manticore;
+	private WaveSpawnRecord record;
+	private String url;
+	private StringBuilder scratch;
+
+	@Setup
+	public void setUp()
+	{
+		ManticoreOrbOrder orbOrder = new ManticoreOrbOrder();
+		orbOrder.saveOrb(ManticoreOrbType.RANGED);
+		orbOrder.saveOrb(ManticoreOrbType.MAGIC);
+		orbOrder.saveOrb(ManticoreOrbType.MELEE);
+		manticore = new NpcSpawn(4, new Point(12, 20), Enemy.MANTICORE, false, orbOrder, true);
+
+		// a wave 11 spawn, the largest a record gets
+		List<NpcSpawn> spawns = new ArrayList<>();
+		spawns.add(manticore);
+		spawns.add(new NpcSpawn(5, new Point(22, 20), Enemy.MANTICORE, false, new ManticoreOrbOrder(), false));
+		spawns.add(new NpcSpawn(6, new Point(6, 9), Enemy.JAVELIN_COLOSSUS, false, null, false));
+		spawns.add(new NpcSpawn(7, new Point(27, 9), Enemy.SHOCKWAVE_COLOSSUS, false, null, false));
+		spawns.add(new NpcSpawn(8, new Point(17, 25), Enemy.MINOTAUR, true, null, false));
+		spawns.add(new NpcSpawn(9, new Point(9, 25), Enemy.SERPENT_SHAMAN, true, null, false));
+		record = new WaveSpawnRecord(11, new Point(17, 17), spawns, false, true);
+		url = record.toLoSUrl();
+		scratch = new StringBuilder(256);
+	}
+
+	@Benchmark
+	public String npcSpawnSegment()
+	{
+		return manticore.toLosUrlSegment();
+	}
+
+	@Benchmark
+	public String waveSpawnRecordUrl()
+	{
+		return record.toLoSUrl();
+	}
+
+	@Benchmark
+	public StringBuilder waveSpawnRecordUrlReusedBuilder()
+	{
+		scratch.setLength(0);
+		LosUrlCodec.encode(record, scratch);
+		return scratch;
+	}
+
+	@Benchmark
+	public WaveSpawnRecord decodeUrl()
+	{
+		return LosUrlCodec.decode(url, 11);
+	}
+
+}
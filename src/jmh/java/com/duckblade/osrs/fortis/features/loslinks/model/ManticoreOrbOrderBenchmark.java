@@ -0,0 +1,40 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Orbs are saved for every manticore on every tick they're charging, mostly as repeats of an already known orb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ManticoreOrbOrderBenchmark
+{
+
+	private static final ManticoreOrbType[] ORBS = ManticoreOrbType.values();
+
+	@Benchmark
+	public ManticoreOrbOrder saveFullOrder()
+	{
+		ManticoreOrbOrder order = new ManticoreOrbOrder();
+		for (ManticoreOrbType orb : ORBS)
+		{
+			order.saveOrb(orb);
+			order.saveOrb(orb);
+		}
+		return order;
+	}
+
+}
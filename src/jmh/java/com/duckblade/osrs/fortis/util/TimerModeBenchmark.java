@@ -0,0 +1,40 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TimerMode#format} runs once per split line per frame while the splits overlay is shown.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimerModeBenchmark
+{
+
+	@Param({"PRECISE", "LAX", "TICKS"})
+	public TimerMode mode;
+
+	private int ticks;
+
+	@Benchmark
+	public String format()
+	{
+		// walk a full run's worth of tick values so nothing is constant folded
+		ticks = (ticks + 7) % 3000;
+		return mode.format(ticks);
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every game message in the colosseum goes through {@link ChatDecoder#decode},
+ * most of which are not ones we track.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatDecoderBenchmark
+{
+
+	private static final String[] MESSAGES = {
+		"<col=ef1020>Wave: 7</col>",
+		"Wave 7 completed! Wave duration: <col=ef1020>1:42.60</col>",
+		"Sol Heredit jumps down from his seat...",
+		"You have been poisoned!",
+		"Your Blowpipe has 12,345 charges left.",
+	};
+
+	private int ix;
+
+	@Benchmark
+	public Object decodeMixed()
+	{
+		ix = (ix + 1) % MESSAGES.length;
+		return ChatDecoder.decode(MESSAGES[ix]);
+	}
+
+	@Benchmark
+	public Object decodeWaveCompleted()
+	{
+		return ChatDecoder.decode(MESSAGES[1]);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.duckblade.osrs.fortis.util.spawns;
+
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link WaveSpawns#forWave} is called for the current and next wave every overlay frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveSpawnsBenchmark
+{
+
+	private ModifierSet noModifiers;
+	private ModifierSet spawnModifiers;
+	private int wave;
+
+	@Setup
+	public void setUp()
+	{
+		noModifiers = ModifierSet.EMPTY;
+
+		ModifierSet.Builder builder = new ModifierSet.Builder();
+		builder.add(Modifier.QUARTET, 1);
+		builder.add(Modifier.DYNAMIC_DUO, 1);
+		builder.add(Modifier.BEES, 2);
+		builder.add(Modifier.MANTIMAYHEM, 3);
+		spawnModifiers = builder.build();
+	}
+
+	@Benchmark
+	public WaveSpawns forWaveNoModifiers()
+	{
+		wave = wave % 12 + 1;
+		return WaveSpawns.forWave(wave, noModifiers);
+	}
+
+	@Benchmark
+	public WaveSpawns forWaveSpawnModifiers()
+	{
+		wave = wave % 12 + 1;
+		return WaveSpawns.forWave(wave, spawnModifiers);
+	}
+
+}
@@ -28,8 +28,9 @@ public interface FortisColosseumConfig extends Config
 	)
 	String SECTION_WAVES_OVERLAY = "wavesOverlay";
 
+	String KEY_WAVES_OVERLAY_MODE = "wavesOverlayMode";
 	@ConfigItem(
-		keyName = "wavesOverlayMode",
+		keyName = KEY_WAVES_OVERLAY_MODE,
 		name = "Display",
 		description = "Enable or disable the waves display components.",
 		position = 101,
@@ -71,8 +72,9 @@ public interface FortisColosseumConfig extends Config
 	)
 	String SECTION_MODIFIERS = "modifiers";
 
+	String KEY_MODIFIERS_OVERLAY_ENABLED = "modifiersOverlayEnabled";
 	@ConfigItem(
-		keyName = "modifiersOverlayEnabled",
+		keyName = KEY_MODIFIERS_OVERLAY_ENABLED,
 		name = "Overlay Enabled",
 		description = "Shows the current active modifiers as an overlay of icons",
 		position = 201,
@@ -125,8 +127,9 @@ public interface FortisColosseumConfig extends Config
 	)
 	void setModifiersOverlayStyle(ModifierSpriteStyle style);
 
+	String KEY_MODIFIERS_NAMES_ON_SELECT_WIDGET = "modifiersNamesOnSelectWidget";
 	@ConfigItem(
-		keyName = "modifiersNamesOnSelectWidget",
+		keyName = KEY_MODIFIERS_NAMES_ON_SELECT_WIDGET,
 		name = "Show Names on Selector",
 		description = "Show the modifier names on the pre-wave selector panel.",
 		position = 204,
@@ -137,8 +140,9 @@ public interface FortisColosseumConfig extends Config
 		return true;
 	}
 
+	String KEY_VOLATILITY_REMINDER = "volatilityReminder";
 	@ConfigItem(
-		keyName = "volatilityReminder",
+		keyName = KEY_VOLATILITY_REMINDER,
 		name = "Volatility Reminder",
 		description = "Shows an icon overlay on dying NPCs to remind of their explosion.<br>Does NOT indicate the explosion radius.",
 		position = 205,
@@ -156,10 +160,12 @@ public interface FortisColosseumConfig extends Config
 	)
 	String SECTION_SPLITS = "splits";
 
+	String KEY_SPLITS_OVERLAY_MODE = "splitsOverlayMode";
 	@ConfigItem(
-		keyName = "splitsOverlayMode",
+		keyName = KEY_SPLITS_OVERLAY_MODE,
 		name = "Overlay Panel",
-		description = "Show splits as an overlay panel.",
+		description = "Show splits as an overlay panel.<br>" +
+			"The delta modes compare against your personal best or sum of best waves, and need \"Record Run History\".",
 		position = 301,
 		section = SECTION_SPLITS
 	)
@@ -183,8 +189,9 @@ public interface FortisColosseumConfig extends Config
 		return 12;
 	}
 
+	String KEY_SPLITS_FILE_CONDITION = "splitsFileCondition";
 	@ConfigItem(
-		keyName = "splitsFileCondition",
+		keyName = KEY_SPLITS_FILE_CONDITION,
 		name = "Save to File",
 		description = "Save splits to files in .runelite/fortis-colosseum/splits/",
 		position = 303,
@@ -236,6 +243,19 @@ public interface FortisColosseumConfig extends Config
 		return false;
 	}
 
+	String KEY_SPLITS_RECORD_HISTORY = "splitsRecordHistory";
+	@ConfigItem(
+		keyName = KEY_SPLITS_RECORD_HISTORY,
+		name = "Record Run History",
+		description = "Keep every run's splits in .runelite/fortis-colosseum/runs.dat, tracking your personal best and best wave times.",
+		position = 307,
+		section = SECTION_SPLITS
+	)
+	default boolean splitsRecordHistory()
+	{
+		return true;
+	}
+
 	@ConfigSection(
 		name = "Loot Interface",
 		description = "Options for the loot shown between waves and on completion.",
@@ -243,8 +263,9 @@ public interface FortisColosseumConfig extends Config
 	)
 	String SECTION_LOOT_INTERFACE = "lootInterface";
 
+	String KEY_LEFT_CLICK_BANK_ALL = "leftClickBankAll";
 	@ConfigItem(
-		keyName = "leftClickBankAll", // legacy keyName
+		keyName = KEY_LEFT_CLICK_BANK_ALL, // legacy keyName
 		name = "Left-Click Bank-All",
 		description = "Switch the two-click Bank-All to a single click in the loot chest interface.",
 		position = 401,
@@ -255,8 +276,9 @@ public interface FortisColosseumConfig extends Config
 		return true;
 	}
 
+	String KEY_LOOT_INTERFACE_HIDE_PREVIOUS_WAVES = "lootInterfaceHidePreviousWaves";
 	@ConfigItem(
-		keyName = "lootInterfaceHidePreviousWaves",
+		keyName = KEY_LOOT_INTERFACE_HIDE_PREVIOUS_WAVES,
 		name = "Hide Previous Waves",
 		description = "Hide previous waves' earned loot behind an extra click.",
 		position = 402,
@@ -267,8 +289,9 @@ public interface FortisColosseumConfig extends Config
 		return LootHiderMode.OFF;
 	}
 
+	String KEY_LOOT_INTERFACE_HIDE_NEXT_WAVE = "lootInterfaceHideNextWave";
 	@ConfigItem(
-		keyName = "lootInterfaceHideNextWave",
+		keyName = KEY_LOOT_INTERFACE_HIDE_NEXT_WAVE,
 		name = "Hide Next Wave",
 		description = "Hide potential next wave loot behind an extra click.",
 		position = 403,
@@ -279,8 +302,9 @@ public interface FortisColosseumConfig extends Config
 		return LootHiderMode.OFF;
 	}
 
+	String KEY_LOOT_INTERFACE_SHOW_TOTAL = "lootInterfaceShowTotal";
 	@ConfigItem(
-		keyName = "lootInterfaceShowTotal",
+		keyName = KEY_LOOT_INTERFACE_SHOW_TOTAL,
 		name = "Show Loot Total",
 		description = "",
 		position = 404,
@@ -298,8 +322,9 @@ public interface FortisColosseumConfig extends Config
 	)
 	String SECTION_LOS_LINKS = "losLinks";
 
+	String KEY_LOS_LINKS_ENABLED = "losLinksEnabled";
 	@ConfigItem(
-		keyName = "losLinksEnabled",
+		keyName = KEY_LOS_LINKS_ENABLED,
 		name = "Panel Enabled",
 		description = "Captures wave spawns, reinforcements, and current NPC locations and generates links to los.colosim.com in the side panel",
 		position = 501,
@@ -310,4 +335,61 @@ public interface FortisColosseumConfig extends Config
 		return true;
 	}
 
+	String KEY_SAFE_TILES_ENABLED = "safeTilesEnabled";
+	@ConfigItem(
+		keyName = KEY_SAFE_TILES_ENABLED,
+		name = "Safe Tile Overlay",
+		description = "Highlights the tiles nearest to you that the fewest enemies have line of sight and range to.",
+		position = 502,
+		section = SECTION_LOS_LINKS
+	)
+	default boolean safeTilesEnabled()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "safeTilesCount",
+		name = "Safe Tile Count",
+		description = "How many of the safest tiles to highlight.",
+		position = 503,
+		section = SECTION_LOS_LINKS
+	)
+	@Range(min = 1, max = 10)
+	default int safeTilesCount()
+	{
+		return 3;
+	}
+
+	String KEY_SAFE_TILES_PREDICTION_TICKS = "safeTilesPredictionTicks";
+	@ConfigItem(
+		keyName = KEY_SAFE_TILES_PREDICTION_TICKS,
+		name = "Predicted Movement",
+		description = "Outline where each enemy will be after this many ticks if you stand still.<br>" +
+			"Set to 0 to disable.",
+		position = 504,
+		section = SECTION_LOS_LINKS
+	)
+	@Range(min = 0, max = 8)
+	default int safeTilesPredictionTicks()
+	{
+		return 0;
+	}
+
+	String KEY_LOS_LINKS_SOLVER_TICKS = "losLinksSolverTicks";
+	@ConfigItem(
+		keyName = KEY_LOS_LINKS_SOLVER_TICKS,
+		name = "Spawn Solver Ticks",
+		description = "After each spawn and reinforcement, search for the path the fewest enemies can attack you along<br>" +
+			"over this many ticks, and show how it compares to standing still in the panel.<br>" +
+			"Set to 0 to disable.",
+		position = 505,
+		section = SECTION_LOS_LINKS
+	)
+	@Range(min = 0, max = 12)
+	default int losLinksSolverTicks()
+	{
+		return 0;
+	}
+
 }
@@ -1,8 +1,8 @@
 package com.duckblade.osrs.fortis.features.loot;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -24,7 +24,6 @@ import net.runelite.api.widgets.WidgetSizeMode;
 import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.client.callback.ClientThread;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -42,25 +41,14 @@ public class LootHider implements PluginLifecycleComponent
 		921, 922, 923, 924, 925, 926, 927, 928,
 	};
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final Client client;
 	private final ClientThread clientThread;
 	private final ColosseumStateTracker stateTracker;
+	private final FortisColosseumConfig config;
 
 	private final Deque<Runnable> gameTickQueue = new ArrayDeque<>(2);
 
-	private LootHiderMode hidePrevious;
-	private LootHiderMode hideNext;
-
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState state)
-	{
-		hidePrevious = config.lootInterfaceHidePreviousWaves();
-		hideNext = config.lootInterfaceHideNextWave();
-		return (hidePrevious != LootHiderMode.OFF || hideNext != LootHiderMode.OFF)
-			&& state.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -83,7 +71,7 @@ public class LootHider implements PluginLifecycleComponent
 			return;
 		}
 
-		if (shouldHide(hidePrevious))
+		if (shouldHide(config.lootInterfaceHidePreviousWaves()))
 		{
 			hide(
 				client.getWidget(InterfaceID.ColosseumIntermission2.LEFT_LOOT),
@@ -93,7 +81,7 @@ public class LootHider implements PluginLifecycleComponent
 			);
 		}
 
-		if (shouldHide(hideNext))
+		if (shouldHide(config.lootInterfaceHideNextWave()))
 		{
 			hide(
 				client.getWidget(InterfaceID.ColosseumIntermission2.RIGHT_LOOT),
@@ -1,8 +1,8 @@
 package com.duckblade.osrs.fortis.features.loot;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +16,6 @@ import net.runelite.api.widgets.WidgetSizeMode;
 import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.api.widgets.WidgetUtil;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -33,16 +32,10 @@ public class LootTotalDisplay implements PluginLifecycleComponent
 	private static final int WIDGET_GP_EARNED = WidgetUtil.packComponentId(865, 9);
 	private static final int WIDGET_GP_NEXT = WidgetUtil.packComponentId(865, 40);
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final Client client;
 	private final FortisColosseumConfig config;
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState state)
-	{
-		return config.lootInterfaceShowTotal() != LootTotalMode.OFF && state.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
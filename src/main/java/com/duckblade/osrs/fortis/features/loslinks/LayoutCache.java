@@ -0,0 +1,264 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutAnalysis;
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutFingerprint;
+import com.duckblade.osrs.fortis.features.loslinks.model.WaveSpawnRecord;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
+import com.duckblade.osrs.fortis.util.chat.WaveCompleted;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Remembers each spawn layout seen, by {@link LayoutFingerprint}, along with its analysis and past outcomes,
+ * in a json file under the RuneLite directory.
+ * Lookups are safe from any thread; loading and saving happen on a background thread.
+ */
+@Slf4j
+@Singleton
+public class LayoutCache implements PluginLifecycleComponent
+{
+
+	private static final Type FILE_TYPE = new TypeToken<Map<String, LayoutAnalysis>>()
+	{
+	}.getType();
+
+	private final PluginEventBus eventBus;
+	private final Gson gson;
+
+	@VisibleForTesting
+	File cacheFile = new File(RuneLite.RUNELITE_DIR, "fortis-colosseum/layouts.json");
+
+	@VisibleForTesting
+	ExecutorService es;
+
+	// guarded by this
+	private final Map<LayoutFingerprint, LayoutAnalysis> layouts = new HashMap<>();
+
+	// set while a save is queued, so a burst of updates only writes the file once
+	private final AtomicBoolean savePending = new AtomicBoolean();
+
+	// the layout of the wave in progress, client thread only
+	private LayoutFingerprint currentLayout;
+
+	@Inject
+	public LayoutCache(PluginEventBus eventBus, Gson gson)
+	{
+		this.eventBus = eventBus;
+		this.gson = gson;
+	}
+
+	@Override
+	public void startUp()
+	{
+		es = Executors.newSingleThreadExecutor(r ->
+		{
+			Thread t = Executors.defaultThreadFactory().newThread(r);
+			t.setDaemon(true);
+			t.setName("FortisColosseumLayoutCache");
+			return t;
+		});
+		es.execute(this::load);
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+		currentLayout = null;
+		es.shutdown();
+	}
+
+	/**
+	 * @return a copy of what is known about the layout, or null if it hasn't been seen
+	 */
+	public synchronized LayoutAnalysis get(LayoutFingerprint layout)
+	{
+		LayoutAnalysis analysis = layouts.get(layout);
+		return analysis == null ? null : analysis.copy();
+	}
+
+	/**
+	 * Applies updater to the layout's analysis, creating it if needed, then queues a save if one isn't already.
+	 *
+	 * @return a copy of the updated analysis
+	 */
+	public LayoutAnalysis update(LayoutFingerprint layout, Consumer<LayoutAnalysis> updater)
+	{
+		LayoutAnalysis updated;
+		synchronized (this)
+		{
+			LayoutAnalysis analysis = layouts.computeIfAbsent(layout, k -> new LayoutAnalysis());
+			updater.accept(analysis);
+			updated = analysis.copy();
+		}
+
+		if (savePending.compareAndSet(false, true))
+		{
+			try
+			{
+				es.execute(this::save);
+			}
+			catch (RejectedExecutionException e)
+			{
+				// the solver can finish after we've been shut down, it's saved next time instead
+				savePending.set(false);
+				log.debug("Layout cache is shut down, not saving {}", layout);
+			}
+		}
+		return updated;
+	}
+
+	// runs before the solver so it sees this spawn counted
+	@Subscribe(priority = 1)
+	public void onWaveSpawnRecord(WaveSpawnRecord record)
+	{
+		if (!record.isWaveSpawn())
+		{
+			return;
+		}
+
+		currentLayout = LayoutFingerprint.of(record);
+		update(currentLayout, a ->
+		{
+			a.setSeen(a.getSeen() + 1);
+			if (a.getLosUrl() == null)
+			{
+				a.setLosUrl(record.toLoSUrl());
+			}
+		});
+	}
+
+	@Subscribe
+	public void onWaveCompleted(WaveCompleted e)
+	{
+		if (currentLayout == null || currentLayout.getWave() != e.getWave())
+		{
+			return;
+		}
+
+		update(currentLayout, a ->
+		{
+			a.setCleared(a.getCleared() + 1);
+			if (e.getDurationTicks() != -1 && (a.getBestTicks() == -1 || e.getDurationTicks() < a.getBestTicks()))
+			{
+				a.setBestTicks(e.getDurationTicks());
+			}
+		});
+		currentLayout = null;
+	}
+
+	@Subscribe
+	public void onColosseumStateChanged(ColosseumStateChanged e)
+	{
+		if (!e.getNewState().isInColosseum())
+		{
+			currentLayout = null;
+		}
+	}
+
+	private Map<String, LayoutAnalysis> snapshot()
+	{
+		Map<String, LayoutAnalysis> snapshot = new LinkedHashMap<>();
+		layouts.forEach((k, v) -> snapshot.put(k.toString(), v.copy()));
+		return snapshot;
+	}
+
+	private void load()
+	{
+		if (!cacheFile.exists())
+		{
+			return;
+		}
+
+		Map<String, LayoutAnalysis> loaded;
+		try (Reader in = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8))
+		{
+			loaded = gson.fromJson(in, FILE_TYPE);
+		}
+		catch (Exception e)
+		{
+			log.warn("Failed to read layout cache [{}]", cacheFile.getAbsoluteFile(), e);
+			return;
+		}
+
+		if (loaded == null)
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			loaded.forEach((k, v) ->
+			{
+				try
+				{
+					// anything recorded before loading finished wins
+					layouts.putIfAbsent(LayoutFingerprint.parse(k), v);
+				}
+				catch (IllegalArgumentException e)
+				{
+					log.debug("Skipping layout cache entry [{}]", k);
+				}
+			});
+		}
+		log.debug("Loaded {} layouts", loaded.size());
+	}
+
+	private void save()
+	{
+		// cleared first, so anything updated after the snapshot queues another save
+		savePending.set(false);
+		Map<String, LayoutAnalysis> snapshot;
+		synchronized (this)
+		{
+			snapshot = snapshot();
+		}
+
+		File dir = cacheFile.getParentFile();
+		if (!dir.mkdirs() && !dir.exists())
+		{
+			log.warn("Failed to create layout cache directory [{}]", dir.getAbsoluteFile());
+			return;
+		}
+
+		// write to the side and swap, so a crash mid-write can't lose the whole cache
+		File tmp = new File(dir, cacheFile.getName() + ".tmp");
+		try
+		{
+			try (Writer out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+			{
+				gson.toJson(snapshot, FILE_TYPE, out);
+			}
+			Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (Exception e)
+		{
+			log.warn("Failed to write layout cache [{}]", cacheFile.getAbsoluteFile(), e);
+		}
+	}
+
+}
@@ -24,27 +24,25 @@
  */
 package com.duckblade.osrs.fortis.features.loslinks;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaNpcs;
+import com.duckblade.osrs.fortis.features.loslinks.engine.VisibilityTable;
 import com.duckblade.osrs.fortis.features.loslinks.model.ManticoreOrbOrder;
-import com.duckblade.osrs.fortis.features.loslinks.model.ManticoreOrbType;
 import com.duckblade.osrs.fortis.features.loslinks.model.NpcSpawn;
 import com.duckblade.osrs.fortis.features.loslinks.model.WaveSpawnRecord;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
 import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import com.duckblade.osrs.fortis.util.Modifier;
 import com.duckblade.osrs.fortis.util.spawns.Enemy;
-import com.duckblade.osrs.fortis.util.spawns.WaveSpawns;
+import com.duckblade.osrs.fortis.util.spawns.WaveSpawn;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -52,22 +50,22 @@ import javax.inject.Singleton;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ActorSpotAnim;
 import net.runelite.api.Client;
-import net.runelite.api.GameObject;
-import net.runelite.api.GameState;
 import net.runelite.api.NPC;
 import net.runelite.api.Point;
 import net.runelite.api.Tile;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GraphicChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.gameval.NpcID;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -76,10 +74,6 @@ import net.runelite.client.eventbus.Subscribe;
 public class LosLinks implements PluginLifecycleComponent
 {
 
-	private static final Comparator<Point> POINT_COMPARATOR =
-		Comparator.comparingInt(Point::getX)
-			.thenComparingInt(Point::getY);
-
 	private static final Map<Integer, Enemy> NPC_ID_TO_ENEMY_TYPE = ImmutableMap.<Integer, Enemy>builder()
 		.put(NpcID.COLOSSEUM_STANDARD_MAGER, Enemy.SERPENT_SHAMAN) // Serpent shaman
 		.put(NpcID.COLOSSEUM_JAVELIN_COLOSSUS, Enemy.JAVELIN_COLOSSUS) // Javelin Colossus
@@ -90,13 +84,22 @@ public class LosLinks implements PluginLifecycleComponent
 		.put(NpcID.COLOSSEUM_SHOCKWAVE_COLOSSUS, Enemy.SHOCKWAVE_COLOSSUS) // Shockwave Colossus
 		.build();
 
+	private static final int ENEMY_COUNT = Enemy.values().length;
+
 	private final Client client;
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final ColosseumStateTracker stateTracker;
 
 	private final Set<Integer> trackedNpcs = new HashSet<>();
 	private final Set<Integer> reinforcementNpcs = new HashSet<>();
-	private final Map<Integer, ManticoreOrbOrder> manticoreOrbData = new HashMap<>();
+	private final ManticoreOrbTracker manticoreOrbTracker = new ManticoreOrbTracker();
+	private final PillarTracker pillarTracker = new PillarTracker();
+	private final ArenaNpcs arenaNpcs = new ArenaNpcs();
+
+	// reinforcements expected this wave but not yet spawned, by Enemy ordinal
+	private final int[] pendingReinforcements = new int[ENEMY_COUNT];
+	private int pendingReinforcementTotal;
+	private boolean reinforcementsComplete;
 
 	@Getter
 	private WaveSpawnRecord waveStartRecord;
@@ -107,19 +110,17 @@ public class LosLinks implements PluginLifecycleComponent
 	private int sceneOffsetX;
 	private int sceneOffsetY;
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.losLinksEnabled() && colosseumState.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
 		eventBus.register(this);
 
 		resetWaveState();
-		determineSceneBase();
+		scanSceneBase();
+		warmVisibilityTable();
+
+		// reinforcements aren't expected until the next wave starts, even mid-wave,
+		// since the npcs already in the arena are replayed as spawns after this and would be counted
 	}
 
 	@Override
@@ -138,52 +139,82 @@ public class LosLinks implements PluginLifecycleComponent
 			resetWaveState();
 		}
 
-		if (event.getNewState().isWaveStarted() && !event.getPreviousState().isWaveStarted() &&
-			event.getNewState().getWaveNumber() != 12)
+		if (event.getNewState().isWaveStarted() && !event.getPreviousState().isWaveStarted())
 		{
-			waveStartRecord = constructWaveRecord();
-			eventBus.post(waveStartRecord);
+			expectReinforcements(event.getNewState());
+
+			if (event.getNewState().getWaveNumber() != 12)
+			{
+				waveStartRecord = constructWaveRecord();
+				eventBus.post(waveStartRecord);
+			}
 		}
 	}
 
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event)
 	{
-		if (event.getGameState() == GameState.LOGGED_IN)
+		switch (event.getGameState())
+		{
+			case LOADING:
+			case HOPPING:
+			case LOGIN_SCREEN:
+				// the scene is being replaced, pillars are re-reported as it loads
+				pillarTracker.clear();
+				break;
+
+			case LOGGED_IN:
+				// pillars are normally tracked from spawn events during loading
+				if (pillarTracker.isEmpty())
+				{
+					scanSceneBase();
+				}
+				break;
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		if (event.getGameObject().getId() == ObjectID.PILLAR_CIVITAS01_COLOSSEUM01 &&
+			pillarTracker.add(event.getGameObject()))
+		{
+			updateSceneBase();
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		if (event.getGameObject().getId() == ObjectID.PILLAR_CIVITAS01_COLOSSEUM01)
 		{
-			determineSceneBase();
+			pillarTracker.remove(event.getGameObject());
 		}
 	}
 
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
-		// Check all manticores for graphic changes every tick
-		// This is more reliable than GraphicChanged events which may not fire when NPCs are behind pillars
-		checkAllManticores();
-
-		// if we've seen all the reinforcement spawns this tick, capture that record
-		if (client.getTickCount() != stateTracker.getWaveStartTick() &&
-			reinforcementRecord == null &&
-			!reinforcementNpcs.isEmpty())
+		// GraphicChanged may not fire when NPCs are behind pillars,
+		// so also poll the manticores it hasn't fired for yet
+		manticoreOrbTracker.pollIncomplete();
+
+		// the last expected reinforcement spawned this tick, capture the record
+		// once all of this tick's spawns and orbs have been seen
+		if (reinforcementsComplete)
 		{
-			WorldView wv = client.getLocalPlayer().getWorldView();
-			boolean seenAllReinforcements = WaveSpawns.forWave(client, stateTracker.getCurrentState(), false)
-				.getReinforcements()
-				.stream()
-				.allMatch(expectedSpawn ->
-					reinforcementNpcs.stream()
-						.map(wv.npcs()::byIndex)
-						.filter(Objects::nonNull)
-						.map(NPC::getId)
-						.map(NPC_ID_TO_ENEMY_TYPE::get)
-						.anyMatch(actualSpawn -> expectedSpawn.getEnemy() == actualSpawn));
-
-			if (seenAllReinforcements)
-			{
-				reinforcementRecord = constructWaveRecord();
-				eventBus.post(reinforcementRecord);
-			}
+			reinforcementsComplete = false;
+			reinforcementRecord = constructWaveRecord();
+			eventBus.post(reinforcementRecord);
+		}
+	}
+
+	@Subscribe
+	public void onGraphicChanged(GraphicChanged event)
+	{
+		if (event.getActor() instanceof NPC)
+		{
+			manticoreOrbTracker.onGraphicChanged((NPC) event.getActor());
 		}
 	}
 
@@ -201,10 +232,15 @@ public class LosLinks implements PluginLifecycleComponent
 		if (client.getTickCount() != stateTracker.getWaveStartTick())
 		{
 			reinforcementNpcs.add(npc.getIndex());
+			if (pendingReinforcements[enemyType.ordinal()] > 0)
+			{
+				pendingReinforcements[enemyType.ordinal()]--;
+				reinforcementsComplete = --pendingReinforcementTotal == 0;
+			}
 		}
 		if (enemyType == Enemy.MANTICORE)
 		{
-			manticoreOrbData.put(npc.getIndex(), new ManticoreOrbOrder());
+			manticoreOrbTracker.track(npc);
 		}
 	}
 
@@ -214,38 +250,22 @@ public class LosLinks implements PluginLifecycleComponent
 		int index = event.getNpc().getIndex();
 		trackedNpcs.remove(index);
 		reinforcementNpcs.remove(index);
-		manticoreOrbData.remove(index);
+		manticoreOrbTracker.untrack(index);
 	}
 
-	private void checkAllManticores()
+	private Point convertToLoSCoordinates(int sceneX, int sceneY)
 	{
-		manticoreOrbData.forEach((index, orbData) ->
-		{
-			NPC npc = client.getLocalPlayer()
-				.getWorldView()
-				.npcs()
-				.byIndex(index);
-			if (npc == null)
-			{
-				return;
-			}
+		return new Point(toLoSX(sceneX), toLoSY(sceneY));
+	}
 
-			for (ActorSpotAnim spotAnim : npc.getSpotAnims())
-			{
-				if (spotAnim != null)
-				{
-					orbData.saveOrb(ManticoreOrbType.forSpotAnim(spotAnim.getId()));
-				}
-			}
-		});
+	private int toLoSX(int sceneX)
+	{
+		return sceneX - sceneOffsetX;
 	}
 
-	private Point convertToLoSCoordinates(int sceneX, int sceneY)
+	private int toLoSY(int sceneY)
 	{
-		return new Point(
-			sceneX - sceneOffsetX,
-			33 - (sceneY - sceneOffsetY) // inverted y coordinate, max y = 33
-		);
+		return 33 - (sceneY - sceneOffsetY); // inverted y coordinate, max y = 33
 	}
 
 	private Point convertToLoSCoordinates(LocalPoint localPoint)
@@ -260,32 +280,99 @@ public class LosLinks implements PluginLifecycleComponent
 
 		trackedNpcs.clear();
 		reinforcementNpcs.clear();
-		manticoreOrbData.clear();
+		manticoreOrbTracker.clear();
+
+		Arrays.fill(pendingReinforcements, 0);
+		pendingReinforcementTotal = 0;
+		reinforcementsComplete = false;
+	}
+
+	private void expectReinforcements(ColosseumState state)
+	{
+		Arrays.fill(pendingReinforcements, 0);
+		pendingReinforcementTotal = 0;
+		for (WaveSpawn reinforcement : state.getWaveSpawns().getReinforcements())
+		{
+			pendingReinforcements[reinforcement.getEnemy().ordinal()] += reinforcement.getCount();
+			pendingReinforcementTotal += reinforcement.getCount();
+		}
+	}
+
+	// on its own thread rather than the common pool, which the client and other plugins share
+	private static void warmVisibilityTable()
+	{
+		if (VisibilityTable.colosseumIfReady() != null)
+		{
+			return;
+		}
+
+		Thread t = new Thread(VisibilityTable::warm, "FortisColosseumVisibilityTable");
+		t.setDaemon(true);
+		t.start();
 	}
 
-	private void determineSceneBase()
+	// cold fallback for when the pillars spawned before we were listening
+	private void scanSceneBase()
 	{
-		Optional<Point> swPillar = Arrays.stream(client.getLocalPlayer()
-				.getWorldView()
-				.getScene()
-				.getTiles()[client.getLocalPlayer().getWorldView().getPlane()])
+		pillarTracker.clear();
+		WorldView wv = client.getLocalPlayer().getWorldView();
+		Arrays.stream(wv.getScene().getTiles()[wv.getPlane()])
 			.flatMap(Arrays::stream) // all tiles in scene
+			.filter(Objects::nonNull)
 			.map(Tile::getGameObjects) // all gameobjects in scene
 			.filter(Objects::nonNull)
 			.flatMap(Arrays::stream)
 			.filter(Objects::nonNull)
 			.filter(obj -> obj.getId() == ObjectID.PILLAR_CIVITAS01_COLOSSEUM01) // pillars
-			.map(GameObject::getSceneMinLocation) // scene min of each
-			.min(POINT_COMPARATOR); // min point
+			.forEach(pillarTracker::add);
+
+		updateSceneBase();
+	}
 
-		if (swPillar.isPresent())
+	private void updateSceneBase()
+	{
+		Point swPillar = pillarTracker.getSouthWestMost();
+		if (swPillar != null)
 		{
-			sceneOffsetX = swPillar.get().getX() - 8;
-			sceneOffsetY = swPillar.get().getY() - 8;
+			sceneOffsetX = swPillar.getX() - 8;
+			sceneOffsetY = swPillar.getY() - 8;
 			log.debug("los scene base {} {}", sceneOffsetX, sceneOffsetY);
 		}
 	}
 
+	Point getPlayerLoSTile()
+	{
+		return convertToLoSCoordinates(LocalPoint.fromWorld(client.getLocalPlayer().getWorldView(), client.getLocalPlayer().getWorldLocation()));
+	}
+
+	LocalPoint fromLoSCoordinates(int x, int y)
+	{
+		return LocalPoint.fromScene(x + sceneOffsetX, 33 - y + sceneOffsetY, client.getLocalPlayer().getWorldView());
+	}
+
+	/**
+	 * Refills and returns the tracked npcs in LoS coordinates, for querying a {@link VisibilityTable}.
+	 */
+	ArenaNpcs collectArenaNpcs()
+	{
+		arenaNpcs.clear();
+		WorldView wv = client.getLocalPlayer().getWorldView();
+		for (int index : trackedNpcs)
+		{
+			NPC npc = wv.npcs().byIndex(index);
+			if (npc != null)
+			{
+				// straight from world to LoS coordinates, this runs for every npc every tick
+				WorldPoint wp = npc.getWorldLocation();
+				int x = toLoSX(wp.getX() - wv.getBaseX());
+				int y = toLoSY(wp.getY() - wv.getBaseY());
+				Enemy enemyType = NPC_ID_TO_ENEMY_TYPE.get(npc.getId());
+				arenaNpcs.add(index, x, y, npc.getComposition().getSize(), enemyType.getAttackRange());
+			}
+		}
+		return arenaNpcs;
+	}
+
 	WaveSpawnRecord constructWaveRecord()
 	{
 		assert client.isClientThread();
@@ -298,8 +385,7 @@ public class LosLinks implements PluginLifecycleComponent
 			.collect(Collectors.toList());
 
 		boolean waveSpawn = client.getTickCount() == stateTracker.getWaveStartTick();
-		boolean mm3 = stateTracker.getCurrentState().getModifiers().contains(Modifier.MANTIMAYHEM) &&
-			Modifier.MANTIMAYHEM.getLevel(client) == 3;
+		boolean mm3 = stateTracker.getCurrentState().getModifiers().getLevel(Modifier.MANTIMAYHEM) == 3;
 
 		return new WaveSpawnRecord(
 			stateTracker.getCurrentState().getWaveNumber(),
@@ -312,7 +398,7 @@ public class LosLinks implements PluginLifecycleComponent
 
 	private NpcSpawn constructNpcSpawn(NPC npc)
 	{
-		ManticoreOrbOrder orbData = manticoreOrbData.get(npc.getIndex());
+		ManticoreOrbOrder orbData = manticoreOrbTracker.getOrbOrder(npc.getIndex());
 		return new NpcSpawn(
 			npc.getIndex(),
 			convertToLoSCoordinates(LocalPoint.fromWorld(npc.getWorldView(), npc.getWorldLocation())),
@@ -24,10 +24,13 @@
  */
 package com.duckblade.osrs.fortis.features.loslinks;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaGrid;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ExposurePlan;
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutAnalysis;
+import com.duckblade.osrs.fortis.features.loslinks.model.WaveSolution;
 import com.duckblade.osrs.fortis.features.loslinks.model.WaveSpawnRecord;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import java.awt.BorderLayout;
@@ -51,10 +54,10 @@ import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 import net.runelite.client.callback.ClientThread;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.util.ImageUtil;
@@ -74,7 +77,7 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 	private static final Color HOVER_COLOR = new Color(52, 52, 52);
 
 	private final ClientToolbar clientToolbar;
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 
 	private final JPanel wavesContainer = new JPanel();
 	private final Map<Integer, WavePanel> wavePanels = new HashMap<>();
@@ -83,7 +86,7 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 
 	@Inject
 	public LosLinksPanel(
-		EventBus eventBus,
+		PluginEventBus eventBus,
 		ClientToolbar clientToolbar,
 		ClientThread clientThread,
 		ColosseumStateTracker stateTracker,
@@ -130,12 +133,6 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 		add(wrapper, BorderLayout.CENTER);
 	}
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.losLinksEnabled();
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -180,6 +177,19 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 		});
 	}
 
+	@Subscribe
+	public void onWaveSolution(WaveSolution solution)
+	{
+		SwingUtilities.invokeLater(() ->
+		{
+			WavePanel wavePanel = wavePanels.get(solution.getRecord().getWave());
+			if (wavePanel != null)
+			{
+				wavePanel.setSolution(solution);
+			}
+		});
+	}
+
 	@Subscribe
 	public void onColosseumStateChanged(ColosseumStateChanged e)
 	{
@@ -197,7 +207,10 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 	private static final class WavePanel extends JPanel
 	{
 		private final JButton reinfButton;
+		private final JLabel solutionLabel;
 		private WaveSpawnRecord reinforcementRecord;
+		private WaveSolution spawnSolution;
+		private WaveSolution reinforcementSolution;
 
 		WavePanel(WaveSpawnRecord spawnRecord)
 		{
@@ -227,7 +240,13 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 			row.add(Box.createRigidArea(new Dimension(GAP, 0)));
 			row.add(reinfButton);
 
+			solutionLabel = new JLabel();
+			solutionLabel.setFont(FontManager.getRunescapeSmallFont());
+			solutionLabel.setBorder(new EmptyBorder(GAP, WAVE_NUMBER_WIDTH + GAP, 0, 0));
+			solutionLabel.setVisible(false);
+
 			add(row, BorderLayout.CENTER);
+			add(solutionLabel, BorderLayout.SOUTH);
 		}
 
 		void setReinforcementRecord(WaveSpawnRecord reinforcementRecord)
@@ -236,6 +255,54 @@ public class LosLinksPanel extends PluginPanel implements PluginLifecycleCompone
 			reinfButton.setEnabled(true);
 			reinfButton.setVisible(true);
 		}
+
+		void setSolution(WaveSolution solution)
+		{
+			if (solution.getRecord().isWaveSpawn())
+			{
+				spawnSolution = solution;
+			}
+			else
+			{
+				reinforcementSolution = solution;
+			}
+
+			StringBuilder text = new StringBuilder("<html>");
+			StringBuilder tooltip = new StringBuilder("<html>");
+			describeSolution(text, tooltip, "Spawn", spawnSolution);
+			describeSolution(text, tooltip, "Reinforcements", reinforcementSolution);
+			solutionLabel.setText(text.append("</html>").toString());
+			solutionLabel.setToolTipText(tooltip.append("</html>").toString());
+			solutionLabel.setVisible(true);
+			revalidate();
+		}
+
+		private static void describeSolution(StringBuilder text, StringBuilder tooltip, String name, WaveSolution solution)
+		{
+			if (solution == null)
+			{
+				return;
+			}
+
+			// exposure is in enemy-ticks, e.g. two enemies with line of sight for one tick is 2
+			ExposurePlan plan = solution.getPlan();
+			text.append(name).append(": ").append(plan.getExposure())
+				.append(" exposed vs ").append(plan.getIdleExposure()).append(" idle<br>");
+
+			LayoutAnalysis layout = solution.getLayout();
+			if (layout.getSeen() > 1)
+			{
+				text.append("Seen ").append(layout.getSeen()).append("x, cleared ").append(layout.getCleared()).append("x<br>");
+			}
+
+			tooltip.append(name).append(": ").append(layout.getSafeTiles()).append(" safe tiles, path:");
+			for (int tick = 1; tick <= plan.getTicks(); tick++)
+			{
+				int tile = plan.getTile(tick);
+				tooltip.append(' ').append(tile % ArenaGrid.SIZE).append(',').append(tile / ArenaGrid.SIZE);
+			}
+			tooltip.append("<br>");
+		}
 	}
 
 	private static JButton createButton(String text, Dimension size)
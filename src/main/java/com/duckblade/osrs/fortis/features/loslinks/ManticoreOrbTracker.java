@@ -0,0 +1,99 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.features.loslinks.model.ManticoreOrbOrder;
+import com.duckblade.osrs.fortis.features.loslinks.model.ManticoreOrbType;
+import com.duckblade.osrs.fortis.util.IntObjectMap;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.ActorSpotAnim;
+import net.runelite.api.NPC;
+
+/**
+ * Tracks the orb order of each manticore, keyed by NPC index.
+ * A manticore is inspected when its graphic changes. GraphicChanged may not fire while it is behind a pillar,
+ * so until the event has been seen for a manticore it is also polled once per tick.
+ * Once all three orbs are known the order can no longer change, so the manticore is left alone.
+ */
+class ManticoreOrbTracker
+{
+
+	@RequiredArgsConstructor
+	private static class TrackedManticore
+	{
+		final NPC npc;
+		final ManticoreOrbOrder orbOrder = new ManticoreOrbOrder();
+
+		// its graphic changes are reaching us, so it doesn't need polling
+		boolean receivingEvents;
+	}
+
+	private final IntObjectMap<TrackedManticore> manticores = new IntObjectMap<>(4);
+
+	void track(NPC npc)
+	{
+		manticores.put(npc.getIndex(), new TrackedManticore(npc));
+	}
+
+	void untrack(int npcIndex)
+	{
+		manticores.remove(npcIndex);
+	}
+
+	void clear()
+	{
+		manticores.clear();
+	}
+
+	ManticoreOrbOrder getOrbOrder(int npcIndex)
+	{
+		TrackedManticore tracked = manticores.get(npcIndex);
+		return tracked != null ? tracked.orbOrder : null;
+	}
+
+	void onGraphicChanged(NPC npc)
+	{
+		TrackedManticore tracked = manticores.get(npc.getIndex());
+		if (tracked != null && tracked.npc == npc)
+		{
+			tracked.receivingEvents = true;
+			inspect(tracked);
+		}
+	}
+
+	/**
+	 * Inspects the manticores whose order is incomplete and that haven't had a GraphicChanged yet.
+	 */
+	void pollIncomplete()
+	{
+		for (int slot = 0; slot < manticores.capacity(); slot++)
+		{
+			TrackedManticore tracked = manticores.valueAt(slot);
+			if (tracked != null && !tracked.receivingEvents && tracked.orbOrder.getThird() == null)
+			{
+				inspect(tracked);
+			}
+		}
+	}
+
+	private static void inspect(TrackedManticore tracked)
+	{
+		if (tracked.orbOrder.getThird() != null)
+		{
+			return;
+		}
+
+		for (ActorSpotAnim spotAnim : tracked.npc.getSpotAnims())
+		{
+			if (spotAnim == null)
+			{
+				continue;
+			}
+
+			ManticoreOrbType orbType = ManticoreOrbType.forSpotAnim(spotAnim.getId());
+			if (orbType != null)
+			{
+				tracked.orbOrder.saveOrb(orbType);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaGrid;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaNpcs;
+import com.duckblade.osrs.fortis.features.loslinks.engine.MovementPrediction;
+import com.duckblade.osrs.fortis.features.loslinks.engine.VisibilityTable;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import com.duckblade.osrs.fortis.util.ForkJoinPools;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.Point;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Each tick, predicts where every tracked npc will be over the next few ticks
+ * for each tile the player could be standing on within {@link #CANDIDATE_RADIUS},
+ * on a small fork-join pool off the client thread.
+ * The latest finished prediction is published through {@link #getLatest()}.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class MovementPredictor implements PluginLifecycleComponent
+{
+
+	static final int CANDIDATE_RADIUS = 2;
+
+	private final Client client;
+	private final PluginEventBus eventBus;
+	private final FortisColosseumConfig config;
+	private final LosLinks losLinks;
+
+	private final int[] candidates = new int[(2 * CANDIDATE_RADIUS + 1) * (2 * CANDIDATE_RADIUS + 1)];
+
+	private ForkJoinPool pool;
+	private AtomicBoolean inFlight;
+
+	// bumped whenever latest is cleared, so tasks still running on an old pool can't publish over it
+	private volatile int generation;
+	private volatile MovementPrediction latest;
+
+	@Override
+	public void startUp()
+	{
+		pool = ForkJoinPools.newDaemonPool("FortisColosseumMovementPredictor", 4);
+		// shutdownNow drops queued tasks without running their finally, so each pool gets its own flag
+		inFlight = new AtomicBoolean();
+		clearLatest();
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+		pool.shutdownNow();
+		pool = null;
+		clearLatest();
+	}
+
+	/**
+	 * @return the most recent prediction, or null if none has finished yet
+	 */
+	public MovementPrediction getLatest()
+	{
+		return latest;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		VisibilityTable table = VisibilityTable.colosseumIfReady();
+		int ticks = config.safeTilesPredictionTicks();
+		AtomicBoolean taskInFlight = inFlight;
+		// if the previous tick's prediction is still running, skip this one rather than queue up
+		if (table == null || ticks <= 0 || !taskInFlight.compareAndSet(false, true))
+		{
+			return;
+		}
+
+		Point player = losLinks.getPlayerLoSTile();
+		int candidateCount = 0;
+		for (int dy = -CANDIDATE_RADIUS; dy <= CANDIDATE_RADIUS; dy++)
+		{
+			for (int dx = -CANDIDATE_RADIUS; dx <= CANDIDATE_RADIUS; dx++)
+			{
+				int x = player.getX() + dx;
+				int y = player.getY() + dy;
+				if (!table.getGrid().isBlocked(x, y))
+				{
+					candidates[candidateCount++] = ArenaGrid.index(x, y);
+				}
+			}
+		}
+
+		// the npc buffer is refilled every tick, so the pool gets its own copy
+		ArenaNpcs npcs = losLinks.collectArenaNpcs().copy();
+		int[] tickCandidates = Arrays.copyOf(candidates, candidateCount);
+		int gameTick = client.getTickCount();
+		int taskGeneration = generation;
+		pool.execute(() ->
+		{
+			try
+			{
+				publish(taskGeneration, MovementPrediction.compute(table, gameTick, npcs, tickCandidates, ticks));
+			}
+			catch (Exception ex)
+			{
+				log.warn("Failed to predict npc movement", ex);
+			}
+			finally
+			{
+				taskInFlight.set(false);
+			}
+		});
+	}
+
+	private synchronized void clearLatest()
+	{
+		generation++;
+		latest = null;
+	}
+
+	private synchronized void publish(int taskGeneration, MovementPrediction prediction)
+	{
+		if (taskGeneration == generation)
+		{
+			latest = prediction;
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import net.runelite.api.GameObject;
+import net.runelite.api.Point;
+
+/**
+ * Holds the arena pillar objects currently in the scene, as reported by object spawn events,
+ * so the south-west pillar (and so the LoS scene base) is known without scanning the scene.
+ */
+class PillarTracker
+{
+
+	// the arena only has four pillars, anything beyond this is ignored
+	static final int MAX_PILLARS = 8;
+
+	private final GameObject[] pillars = new GameObject[MAX_PILLARS];
+	private int count;
+
+	/**
+	 * @return true if the pillar was newly added
+	 */
+	boolean add(GameObject pillar)
+	{
+		if (count == MAX_PILLARS || indexOf(pillar) != -1)
+		{
+			return false;
+		}
+
+		pillars[count++] = pillar;
+		return true;
+	}
+
+	void remove(GameObject pillar)
+	{
+		int ix = indexOf(pillar);
+		if (ix != -1)
+		{
+			pillars[ix] = pillars[--count];
+			pillars[count] = null;
+		}
+	}
+
+	void clear()
+	{
+		while (count > 0)
+		{
+			pillars[--count] = null;
+		}
+	}
+
+	boolean isEmpty()
+	{
+		return count == 0;
+	}
+
+	/**
+	 * @return the scene min location with the lowest x, then lowest y, of any tracked pillar, or null if none
+	 */
+	Point getSouthWestMost()
+	{
+		Point min = null;
+		for (int i = 0; i < count; i++)
+		{
+			Point p = pillars[i].getSceneMinLocation();
+			if (min == null || p.getX() < min.getX() || (p.getX() == min.getX() && p.getY() < min.getY()))
+			{
+				min = p;
+			}
+		}
+		return min;
+	}
+
+	private int indexOf(GameObject pillar)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			if (pillars[i] == pillar)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
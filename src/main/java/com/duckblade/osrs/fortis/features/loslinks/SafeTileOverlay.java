@@ -0,0 +1,192 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaGrid;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaNpcs;
+import com.duckblade.osrs.fortis.features.loslinks.engine.MovementPrediction;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ThreatMap;
+import com.duckblade.osrs.fortis.features.loslinks.engine.VisibilityTable;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayUtil;
+
+/**
+ * Highlights the tiles with the fewest enemies threatening them, nearest to the player first.
+ * Relies on {@link LosLinks} for the tracked npcs and scene base, which is kept enabled while this is.
+ */
+@Singleton
+public class SafeTileOverlay extends Overlay implements PluginLifecycleComponent
+{
+
+	private static final Color SAFE_COLOR = new Color(0, 200, 83);
+	private static final Color THREATENED_COLOR = new Color(255, 171, 0);
+	private static final Color PREDICTED_COLOR = new Color(255, 255, 255, 120);
+
+	private static final int MAX_TILES = 10;
+
+	private final Client client;
+	private final PluginEventBus eventBus;
+	private final OverlayManager overlayManager;
+	private final FortisColosseumConfig config;
+	private final LosLinks losLinks;
+	private final MovementPredictor movementPredictor;
+
+	private ThreatMap threatMap;
+	private final int[] safestTiles = new int[MAX_TILES];
+	private int safestCount;
+	private int lastPlayerX = -1;
+	private int lastPlayerY = -1;
+
+	@Inject
+	public SafeTileOverlay(
+		Client client,
+		PluginEventBus eventBus,
+		OverlayManager overlayManager,
+		FortisColosseumConfig config,
+		LosLinks losLinks,
+		MovementPredictor movementPredictor
+	)
+	{
+		this.client = client;
+		this.eventBus = eventBus;
+		this.overlayManager = overlayManager;
+		this.config = config;
+		this.losLinks = losLinks;
+		this.movementPredictor = movementPredictor;
+
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+	}
+
+	@Override
+	public void startUp()
+	{
+		eventBus.register(this);
+		overlayManager.add(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+		overlayManager.remove(this);
+
+		threatMap = null;
+		safestCount = 0;
+		lastPlayerX = lastPlayerY = -1;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		if (threatMap == null)
+		{
+			// LosLinks builds the table in the background on startup
+			VisibilityTable table = VisibilityTable.colosseumIfReady();
+			if (table == null)
+			{
+				return;
+			}
+			threatMap = new ThreatMap(table);
+		}
+
+		// only npcs that moved since last tick are rescored
+		ArenaNpcs npcs = losLinks.collectArenaNpcs();
+		boolean changed = false;
+		threatMap.beginUpdate();
+		for (int i = 0; i < npcs.count(); i++)
+		{
+			if (npcs.getAttackRange(i) > 0)
+			{
+				changed |= threatMap.update(npcs.getNpcIndex(i), npcs.getX(i), npcs.getY(i), npcs.getSize(i), npcs.getAttackRange(i));
+			}
+		}
+		changed |= threatMap.endUpdate();
+
+		Point player = losLinks.getPlayerLoSTile();
+		int count = Math.min(MAX_TILES, config.safeTilesCount());
+		if (changed || count != safestCount || player.getX() != lastPlayerX || player.getY() != lastPlayerY)
+		{
+			lastPlayerX = player.getX();
+			lastPlayerY = player.getY();
+			safestCount = threatMap.findSafest(lastPlayerX, lastPlayerY, safestTiles, count);
+		}
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		for (int i = 0; i < safestCount; i++)
+		{
+			int x = safestTiles[i] % ArenaGrid.SIZE;
+			int y = safestTiles[i] / ArenaGrid.SIZE;
+			LocalPoint lp = losLinks.fromLoSCoordinates(x, y);
+			if (lp == null)
+			{
+				continue;
+			}
+
+			Polygon poly = Perspective.getCanvasTilePoly(client, lp);
+			if (poly != null)
+			{
+				OverlayUtil.renderPolygon(graphics, poly, threatMap.getThreat(x, y) == 0 ? SAFE_COLOR : THREATENED_COLOR);
+			}
+		}
+
+		renderPredictions(graphics);
+		return null;
+	}
+
+	private void renderPredictions(Graphics2D graphics)
+	{
+		int ticks = config.safeTilesPredictionTicks();
+		MovementPrediction prediction = movementPredictor.getLatest();
+		if (ticks <= 0 || prediction == null)
+		{
+			return;
+		}
+
+		// where each npc ends up if the player stays where they were when the prediction was made
+		int candidate = prediction.findCandidate(ArenaGrid.index(lastPlayerX, lastPlayerY));
+		if (candidate == -1)
+		{
+			return;
+		}
+
+		int tick = Math.min(ticks, prediction.getTicks());
+		for (int npc = 0; npc < prediction.getNpcCount(); npc++)
+		{
+			int tile = prediction.getPosition(candidate, npc, tick);
+			LocalPoint sw = losLinks.fromLoSCoordinates(tile % ArenaGrid.SIZE, tile / ArenaGrid.SIZE);
+			if (sw == null)
+			{
+				continue;
+			}
+
+			int size = prediction.getNpcSize(npc);
+			int centreOffset = (size - 1) * Perspective.LOCAL_HALF_TILE_SIZE;
+			Polygon poly = Perspective.getCanvasTileAreaPoly(client, sw.dx(centreOffset).dy(centreOffset), size);
+			if (poly != null)
+			{
+				OverlayUtil.renderPolygon(graphics, poly, PREDICTED_COLOR);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaGrid;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ArenaNpcs;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ExposurePlan;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ExposureSolver;
+import com.duckblade.osrs.fortis.features.loslinks.engine.ThreatMap;
+import com.duckblade.osrs.fortis.features.loslinks.engine.VisibilityTable;
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutAnalysis;
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutFingerprint;
+import com.duckblade.osrs.fortis.features.loslinks.model.NpcSpawn;
+import com.duckblade.osrs.fortis.features.loslinks.model.WaveSolution;
+import com.duckblade.osrs.fortis.features.loslinks.model.WaveSpawnRecord;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import com.duckblade.osrs.fortis.util.ForkJoinPools;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Point;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Runs {@link ExposureSolver} in the background on each {@link WaveSpawnRecord} {@link LosLinks} posts,
+ * posting a {@link WaveSolution} back on the client thread when it finishes.
+ * Wave spawn layouts already solved from the same starting tile are answered straight from the {@link LayoutCache}.
+ * Reinforcement layouts include npcs that have already moved, so they hardly ever repeat and aren't cached.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class WaveSolver implements PluginLifecycleComponent
+{
+
+	private static final int BEAM_WIDTH = 64;
+
+	private final PluginEventBus eventBus;
+	private final ClientThread clientThread;
+	private final FortisColosseumConfig config;
+	private final LayoutCache layoutCache;
+
+	private ForkJoinPool pool;
+
+	@Override
+	public void startUp()
+	{
+		pool = ForkJoinPools.newDaemonPool("FortisColosseumWaveSolver", 4);
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+		pool.shutdownNow();
+		pool = null;
+	}
+
+	@Subscribe
+	public void onWaveSpawnRecord(WaveSpawnRecord record)
+	{
+		int ticks = config.losLinksSolverTicks();
+		Point player = record.getPlayerTile();
+		if (ticks <= 0 || !ArenaGrid.inBounds(player.getX(), player.getY()))
+		{
+			return;
+		}
+
+		int playerTile = ArenaGrid.index(player.getX(), player.getY());
+		LayoutFingerprint layout = LayoutFingerprint.of(record);
+
+		// a repeat layout from the same starting tile doesn't need solving again
+		LayoutAnalysis known = record.isWaveSpawn() ? layoutCache.get(layout) : null;
+		if (known != null && known.getSolverPlayerTile() == playerTile &&
+			known.getSolverPath() != null && known.getSolverPath().length == ticks)
+		{
+			ExposurePlan plan = ExposurePlan.of(known.getSolverPath(), known.getSolverExposures(), known.getSolverIdleExposure());
+			eventBus.post(new WaveSolution(record, plan, known));
+			return;
+		}
+
+		ArenaNpcs npcs = new ArenaNpcs();
+		for (NpcSpawn spawn : record.getSpawns())
+		{
+			npcs.add(spawn.getNpcIndex(), spawn.getSwTile().getX(), spawn.getSwTile().getY(), spawn.getEnemyType().getSize(), spawn.getEnemyType().getAttackRange());
+		}
+
+		pool.execute(() ->
+		{
+			try
+			{
+				// waits for LosLinks' background build on the first wave
+				VisibilityTable table = VisibilityTable.colosseum();
+				ExposurePlan plan = ExposureSolver.solve(table, npcs, player.getX(), player.getY(), ticks, BEAM_WIDTH);
+				int safeTiles = countSafeTiles(table, npcs);
+				log.debug("wave {} solved: {}", record.getWave(), plan);
+
+				Consumer<LayoutAnalysis> saveSolution = a ->
+				{
+					a.setSafeTiles(safeTiles);
+					a.setSolverPlayerTile(playerTile);
+					a.setSolverPath(new int[ticks]);
+					a.setSolverExposures(new int[ticks]);
+					for (int tick = 1; tick <= ticks; tick++)
+					{
+						a.getSolverPath()[tick - 1] = plan.getTile(tick);
+						a.getSolverExposures()[tick - 1] = plan.getExposure(tick);
+					}
+					a.setSolverIdleExposure(plan.getIdleExposure());
+				};
+
+				LayoutAnalysis analysis;
+				if (record.isWaveSpawn())
+				{
+					analysis = layoutCache.update(layout, saveSolution);
+				}
+				else
+				{
+					// only kept for this solution
+					analysis = new LayoutAnalysis();
+					saveSolution.accept(analysis);
+				}
+				clientThread.invokeLater(() -> eventBus.post(new WaveSolution(record, plan, analysis)));
+			}
+			catch (Exception ex)
+			{
+				log.warn("Failed to solve wave {}", record.getWave(), ex);
+			}
+		});
+	}
+
+	private static int countSafeTiles(VisibilityTable table, ArenaNpcs npcs)
+	{
+		ThreatMap threatMap = new ThreatMap(table);
+		threatMap.beginUpdate();
+		for (int i = 0; i < npcs.count(); i++)
+		{
+			if (npcs.getAttackRange(i) > 0)
+			{
+				threatMap.update(npcs.getNpcIndex(i), npcs.getX(i), npcs.getY(i), npcs.getSize(i), npcs.getAttackRange(i));
+			}
+		}
+		threatMap.endUpdate();
+		return threatMap.countSafeTiles();
+	}
+
+}
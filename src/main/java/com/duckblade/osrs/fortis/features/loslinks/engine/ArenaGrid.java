@@ -0,0 +1,113 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+/**
+ * The arena floor in colosim LoS coordinates (see LosLinks.convertToLoSCoordinates),
+ * 34x34 tiles with y increasing southwards, and the tiles blocked by pillars.
+ */
+public final class ArenaGrid
+{
+
+	public static final int SIZE = 34;
+	public static final int TILES = SIZE * SIZE;
+
+	// sw corner of the sw pillar, which LosLinks anchors the scene base on
+	private static final int PILLAR_NEAR = 8;
+	private static final int PILLAR_SIZE = 3;
+	private static final int PILLAR_FAR = SIZE - PILLAR_NEAR - PILLAR_SIZE;
+
+	public static final ArenaGrid COLOSSEUM = colosseum();
+
+	private final boolean[] blocked;
+
+	ArenaGrid(boolean[] blocked)
+	{
+		if (blocked.length != TILES)
+		{
+			throw new IllegalArgumentException("expected " + TILES + " tiles, got " + blocked.length);
+		}
+		this.blocked = blocked.clone();
+	}
+
+	public static boolean inBounds(int x, int y)
+	{
+		return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+	}
+
+	public static int index(int x, int y)
+	{
+		return y * SIZE + x;
+	}
+
+	/**
+	 * @return true for pillar tiles and anything outside the arena
+	 */
+	public boolean isBlocked(int x, int y)
+	{
+		return !inBounds(x, y) || blocked[index(x, y)];
+	}
+
+	// an npc's footprint spans [x, x + size - 1] and [y - size + 1, y], with (x, y) its sw tile
+
+	public static int footprintMaxX(int x, int size)
+	{
+		return x + size - 1;
+	}
+
+	public static int footprintMinY(int y, int size)
+	{
+		return y - size + 1;
+	}
+
+	/**
+	 * @return how many columns tileX is outside the footprint, 0 if it's within it
+	 */
+	public static int footprintDistanceX(int x, int size, int tileX)
+	{
+		return Math.max(0, Math.max(x - tileX, tileX - footprintMaxX(x, size)));
+	}
+
+	/**
+	 * @return how many rows tileY is outside the footprint, 0 if it's within it
+	 */
+	public static int footprintDistanceY(int y, int size, int tileY)
+	{
+		return Math.max(0, Math.max(footprintMinY(y, size) - tileY, tileY - y));
+	}
+
+	/**
+	 * @return the column of the footprint nearest tileX
+	 */
+	public static int nearestFootprintX(int x, int size, int tileX)
+	{
+		return Math.max(x, Math.min(tileX, footprintMaxX(x, size)));
+	}
+
+	/**
+	 * @return the row of the footprint nearest tileY
+	 */
+	public static int nearestFootprintY(int y, int size, int tileY)
+	{
+		return Math.max(footprintMinY(y, size), Math.min(tileY, y));
+	}
+
+	private static ArenaGrid colosseum()
+	{
+		// four 3x3 pillars, mirrored about the centre of the arena
+		boolean[] blocked = new boolean[TILES];
+		for (int px : new int[]{PILLAR_NEAR, PILLAR_FAR})
+		{
+			for (int py : new int[]{PILLAR_NEAR, PILLAR_FAR})
+			{
+				for (int dx = 0; dx < PILLAR_SIZE; dx++)
+				{
+					for (int dy = 0; dy < PILLAR_SIZE; dy++)
+					{
+						blocked[index(px + dx, py + dy)] = true;
+					}
+				}
+			}
+		}
+		return new ArenaGrid(blocked);
+	}
+
+}
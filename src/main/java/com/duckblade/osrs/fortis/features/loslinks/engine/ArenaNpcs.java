@@ -0,0 +1,101 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Arrays;
+
+/**
+ * The NPCs in the arena as flat primitive arrays, refilled in place rather than reallocated.
+ * Positions are the npc's sw tile in colosim LoS coordinates, so its footprint extends east and north,
+ * i.e. to larger x and smaller y.
+ */
+public final class ArenaNpcs
+{
+
+	/**
+	 * Visibility results are reported as a bit per npc in a long.
+	 */
+	public static final int MAX_NPCS = 64;
+
+	private int[] npcIndex = new int[16];
+	private int[] x = new int[16];
+	private int[] y = new int[16];
+	private int[] size = new int[16];
+	private int[] attackRange = new int[16];
+	private int count;
+
+	public void clear()
+	{
+		count = 0;
+	}
+
+	/**
+	 * @return the slot the npc was stored in, which is its bit in visibility masks
+	 */
+	public int add(int npcIndex, int x, int y, int size, int attackRange)
+	{
+		if (count == MAX_NPCS)
+		{
+			throw new IllegalStateException("more than " + MAX_NPCS + " npcs in the arena");
+		}
+
+		if (count == this.x.length)
+		{
+			int capacity = Math.min(MAX_NPCS, count * 2);
+			this.npcIndex = Arrays.copyOf(this.npcIndex, capacity);
+			this.x = Arrays.copyOf(this.x, capacity);
+			this.y = Arrays.copyOf(this.y, capacity);
+			this.size = Arrays.copyOf(this.size, capacity);
+			this.attackRange = Arrays.copyOf(this.attackRange, capacity);
+		}
+
+		this.npcIndex[count] = npcIndex;
+		this.x[count] = x;
+		this.y[count] = y;
+		this.size[count] = size;
+		this.attackRange[count] = attackRange;
+		return count++;
+	}
+
+	public ArenaNpcs copy()
+	{
+		// keeps the capacity, so the copy can still grow by doubling
+		ArenaNpcs copy = new ArenaNpcs();
+		copy.npcIndex = npcIndex.clone();
+		copy.x = x.clone();
+		copy.y = y.clone();
+		copy.size = size.clone();
+		copy.attackRange = attackRange.clone();
+		copy.count = count;
+		return copy;
+	}
+
+	public int count()
+	{
+		return count;
+	}
+
+	public int getNpcIndex(int slot)
+	{
+		return npcIndex[slot];
+	}
+
+	public int getX(int slot)
+	{
+		return x[slot];
+	}
+
+	public int getY(int slot)
+	{
+		return y[slot];
+	}
+
+	public int getSize(int slot)
+	{
+		return size[slot];
+	}
+
+	public int getAttackRange(int slot)
+	{
+		return attackRange[slot];
+	}
+
+}
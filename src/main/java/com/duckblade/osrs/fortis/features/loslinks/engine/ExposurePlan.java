@@ -0,0 +1,93 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Arrays;
+
+/**
+ * A movement plan found by {@link ExposureSolver}: the player's tile after each tick,
+ * and how many enemies could attack them on each, alongside the same count for standing still.
+ */
+public final class ExposurePlan
+{
+
+	private final int[] path;
+	private final int[] exposures;
+	private final int exposure;
+	private final int idleExposure;
+
+	ExposurePlan(int[] path, int[] exposures, int idleExposure)
+	{
+		this.path = path;
+		this.exposures = exposures;
+		this.exposure = Arrays.stream(exposures).sum();
+		this.idleExposure = idleExposure;
+	}
+
+	/**
+	 * Rebuilds a plan from the values of {@link #getTile} and {@link #getExposure(int)} for each tick.
+	 */
+	public static ExposurePlan of(int[] path, int[] exposures, int idleExposure)
+	{
+		if (path.length != exposures.length)
+		{
+			throw new IllegalArgumentException("path and exposures differ in length");
+		}
+		return new ExposurePlan(path.clone(), exposures.clone(), idleExposure);
+	}
+
+	public int getTicks()
+	{
+		return path.length;
+	}
+
+	/**
+	 * @param tick 1 for the next tick, up to {@link #getTicks()}
+	 * @return the tile index (see {@link ArenaGrid#index}) the player should be on
+	 */
+	public int getTile(int tick)
+	{
+		return path[tick - 1];
+	}
+
+	/**
+	 * @param tick 1 for the next tick, up to {@link #getTicks()}
+	 * @return how many enemies could attack the player on that tick
+	 */
+	public int getExposure(int tick)
+	{
+		return exposures[tick - 1];
+	}
+
+	/**
+	 * @return the total number of enemy-ticks the player could be attacked on, following the plan
+	 */
+	public int getExposure()
+	{
+		return exposure;
+	}
+
+	/**
+	 * @return the same total as {@link #getExposure()}, for standing still instead
+	 */
+	public int getIdleExposure()
+	{
+		return idleExposure;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("ExposurePlan(exposure=").append(exposure)
+			.append(", idleExposure=").append(idleExposure)
+			.append(", path=[");
+		for (int i = 0; i < path.length; i++)
+		{
+			if (i != 0)
+			{
+				sb.append(", ");
+			}
+			sb.append(path[i] % ArenaGrid.SIZE).append(',').append(path[i] / ArenaGrid.SIZE);
+		}
+		return sb.append("])").toString();
+	}
+
+}
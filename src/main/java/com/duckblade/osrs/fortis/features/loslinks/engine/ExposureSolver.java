@@ -0,0 +1,205 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Beam search over the player's moves for the first few ticks after a spawn,
+ * looking for the path that the fewest enemies can attack along.
+ * Each tick the player runs up to two tiles, then every enemy takes a {@link NpcMovement} step towards them.
+ * <p>
+ * The search keeps only the cheapest node per player tile at each depth, then the cheapest beamWidth of those,
+ * so it can miss plans that only pay off by leading enemies somewhere first.
+ * Nodes are expanded in parallel on the calling fork-join pool if there is one.
+ */
+public final class ExposureSolver
+{
+
+	private static final int PLAYER_SPEED = 2;
+	private static final int MOVE_SPAN = 2 * PLAYER_SPEED + 1;
+	private static final int MOVES = MOVE_SPAN * MOVE_SPAN;
+
+	// fewest attacks first, then the least running around
+	private static final Comparator<Node> CHEAPEST = Comparator.<Node>comparingInt(n -> n.cost).thenComparingInt(n -> n.moved);
+
+	private final VisibilityTable table;
+	private final int npcCount;
+	private final int[] size;
+	private final int[] range;
+
+	private ExposureSolver(VisibilityTable table, int[] size, int[] range)
+	{
+		this.table = table;
+		this.npcCount = size.length;
+		this.size = size;
+		this.range = range;
+	}
+
+	/**
+	 * Npcs without an attack range are ignored. npcs may be reused once this returns.
+	 */
+	public static ExposurePlan solve(VisibilityTable table, ArenaNpcs npcs, int playerX, int playerY, int ticks, int beamWidth)
+	{
+		if (ticks < 1 || beamWidth < 1)
+		{
+			throw new IllegalArgumentException("ticks and beamWidth must be positive");
+		}
+
+		int npcCount = 0;
+		for (int i = 0; i < npcs.count(); i++)
+		{
+			if (npcs.getAttackRange(i) > 0)
+			{
+				npcCount++;
+			}
+		}
+
+		int[] size = new int[npcCount];
+		int[] range = new int[npcCount];
+		int[] npcTiles = new int[npcCount];
+		for (int i = 0, n = 0; i < npcs.count(); i++)
+		{
+			if (npcs.getAttackRange(i) > 0)
+			{
+				size[n] = npcs.getSize(i);
+				range[n] = npcs.getAttackRange(i);
+				npcTiles[n++] = ArenaGrid.index(npcs.getX(i), npcs.getY(i));
+			}
+		}
+
+		return new ExposureSolver(table, size, range)
+			.search(new Node(null, ArenaGrid.index(playerX, playerY), 0, 0, 0, npcTiles), ticks, beamWidth);
+	}
+
+	private ExposurePlan search(Node root, int ticks, int beamWidth)
+	{
+		Node idle = root;
+		for (int t = 0; t < ticks; t++)
+		{
+			idle = advance(idle, idle.tile, 0);
+		}
+
+		List<Node> beam = new ArrayList<>();
+		beam.add(root);
+		Node[] bestByTile = new Node[ArenaGrid.TILES];
+		for (int t = 0; t < ticks; t++)
+		{
+			List<Node> parents = beam;
+			Node[] children = new Node[parents.size() * MOVES];
+			IntStream.range(0, children.length).parallel()
+				.forEach(i -> children[i] = expand(parents.get(i / MOVES), i % MOVES));
+
+			// children are visited in a fixed order, so ties resolve the same way however they were computed
+			Arrays.fill(bestByTile, null);
+			for (Node child : children)
+			{
+				if (child != null && (bestByTile[child.tile] == null || CHEAPEST.compare(child, bestByTile[child.tile]) < 0))
+				{
+					bestByTile[child.tile] = child;
+				}
+			}
+
+			beam = new ArrayList<>();
+			for (Node best : bestByTile)
+			{
+				if (best != null)
+				{
+					beam.add(best);
+				}
+			}
+			beam.sort(CHEAPEST);
+			if (beam.size() > beamWidth)
+			{
+				beam = new ArrayList<>(beam.subList(0, beamWidth));
+			}
+		}
+
+		int[] path = new int[ticks];
+		int[] exposures = new int[ticks];
+		for (Node n = beam.get(0); n.parent != null; n = n.parent)
+		{
+			path[n.depth - 1] = n.tile;
+			exposures[n.depth - 1] = n.cost - n.parent.cost;
+		}
+		return new ExposurePlan(path, exposures, idle.cost);
+	}
+
+	// null if the player can't make the move
+	private Node expand(Node parent, int move)
+	{
+		int x = parent.tile % ArenaGrid.SIZE;
+		int y = parent.tile / ArenaGrid.SIZE;
+		int dx = move % MOVE_SPAN - PLAYER_SPEED;
+		int dy = move / MOVE_SPAN - PLAYER_SPEED;
+		int steps = Math.max(Math.abs(dx), Math.abs(dy));
+
+		// run one tile at a time, diagonally first
+		while (dx != 0 || dy != 0)
+		{
+			int sx = Integer.signum(dx);
+			int sy = Integer.signum(dy);
+			if (!canStep(x, y, sx, sy))
+			{
+				return null;
+			}
+			x += sx;
+			y += sy;
+			dx -= sx;
+			dy -= sy;
+		}
+		return advance(parent, ArenaGrid.index(x, y), steps);
+	}
+
+	private Node advance(Node parent, int playerTile, int steps)
+	{
+		int px = playerTile % ArenaGrid.SIZE;
+		int py = playerTile / ArenaGrid.SIZE;
+		int[] npcTiles = new int[npcCount];
+		int exposure = 0;
+		for (int n = 0; n < npcCount; n++)
+		{
+			int tile = NpcMovement.step(table, parent.npcTiles[n] % ArenaGrid.SIZE, parent.npcTiles[n] / ArenaGrid.SIZE, size[n], range[n], px, py);
+			npcTiles[n] = tile;
+			if (NpcMovement.canAttack(table, tile % ArenaGrid.SIZE, tile / ArenaGrid.SIZE, size[n], range[n], px, py))
+			{
+				exposure++;
+			}
+		}
+		return new Node(parent, playerTile, parent.depth + 1, parent.cost + exposure, parent.moved + steps, npcTiles);
+	}
+
+	private boolean canStep(int x, int y, int sx, int sy)
+	{
+		ArenaGrid grid = table.getGrid();
+		if (grid.isBlocked(x + sx, y + sy))
+		{
+			return false;
+		}
+		// no cutting diagonally past pillar corners
+		return sx == 0 || sy == 0 || !grid.isBlocked(x + sx, y) && !grid.isBlocked(x, y + sy);
+	}
+
+	private static final class Node
+	{
+		final Node parent;
+		final int tile;
+		final int depth;
+		final int cost;
+		final int moved;
+		final int[] npcTiles;
+
+		Node(Node parent, int tile, int depth, int cost, int moved, int[] npcTiles)
+		{
+			this.parent = parent;
+			this.tile = tile;
+			this.depth = depth;
+			this.cost = cost;
+			this.moved = moved;
+			this.npcTiles = npcTiles;
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Predicted npc positions for the next few ticks, for each of several candidate player tiles.
+ * Immutable once built, so it can be computed off the client thread and handed back as is.
+ */
+public final class MovementPrediction
+{
+
+	private final int gameTick;
+	private final int ticks;
+	private final int[] npcIndex;
+	private final int[] npcSize;
+	private final int[] candidates;
+
+	// [(candidate * npcCount + npc) * ticks + tick] -> tile index of the npc's sw tile
+	private final int[] positions;
+
+	private MovementPrediction(int gameTick, int ticks, int[] npcIndex, int[] npcSize, int[] candidates, int[] positions)
+	{
+		this.gameTick = gameTick;
+		this.ticks = ticks;
+		this.npcIndex = npcIndex;
+		this.npcSize = npcSize;
+		this.candidates = candidates;
+		this.positions = positions;
+	}
+
+	/**
+	 * Runs the prediction for every candidate, in parallel on the calling fork-join pool if there is one.
+	 * Neither npcs nor candidates may be modified until this returns.
+	 *
+	 * @param candidates player tile indices (see {@link ArenaGrid#index})
+	 */
+	public static MovementPrediction compute(VisibilityTable table, int gameTick, ArenaNpcs npcs, int[] candidates, int ticks)
+	{
+		int npcCount = npcs.count();
+		int[] npcIndex = new int[npcCount];
+		int[] x = new int[npcCount];
+		int[] y = new int[npcCount];
+		int[] size = new int[npcCount];
+		int[] range = new int[npcCount];
+		for (int i = 0; i < npcCount; i++)
+		{
+			npcIndex[i] = npcs.getNpcIndex(i);
+			x[i] = npcs.getX(i);
+			y[i] = npcs.getY(i);
+			size[i] = npcs.getSize(i);
+			range[i] = npcs.getAttackRange(i);
+		}
+
+		int[] candidatesCopy = candidates.clone();
+		int[] positions = new int[candidatesCopy.length * npcCount * ticks];
+		IntStream.range(0, candidatesCopy.length).parallel().forEach(c ->
+		{
+			int targetX = candidatesCopy[c] % ArenaGrid.SIZE;
+			int targetY = candidatesCopy[c] / ArenaGrid.SIZE;
+			for (int n = 0; n < npcCount; n++)
+			{
+				NpcMovement.predict(table, x[n], y[n], size[n], range[n], targetX, targetY, positions, (c * npcCount + n) * ticks, ticks);
+			}
+		});
+
+		return new MovementPrediction(gameTick, ticks, npcIndex, size, candidatesCopy, positions);
+	}
+
+	/**
+	 * @return the game tick the npc positions were captured on
+	 */
+	public int getGameTick()
+	{
+		return gameTick;
+	}
+
+	public int getTicks()
+	{
+		return ticks;
+	}
+
+	public int getNpcCount()
+	{
+		return npcIndex.length;
+	}
+
+	public int getNpcIndex(int npc)
+	{
+		return npcIndex[npc];
+	}
+
+	public int getNpcSize(int npc)
+	{
+		return npcSize[npc];
+	}
+
+	public int getCandidateCount()
+	{
+		return candidates.length;
+	}
+
+	public int getCandidate(int candidate)
+	{
+		return candidates[candidate];
+	}
+
+	/**
+	 * @return the position of the given candidate tile, or -1 if it wasn't a candidate
+	 */
+	public int findCandidate(int tile)
+	{
+		for (int i = 0; i < candidates.length; i++)
+		{
+			if (candidates[i] == tile)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param tick 1 for the next tick, up to {@link #getTicks()}
+	 * @return the tile index of the npc's sw tile
+	 */
+	public int getPosition(int candidate, int npc, int tick)
+	{
+		if (tick < 1 || tick > ticks)
+		{
+			throw new IndexOutOfBoundsException("tick " + tick + " outside 1.." + ticks);
+		}
+		return positions[(candidate * npcIndex.length + npc) * ticks + tick - 1];
+	}
+
+	@Override
+	public String toString()
+	{
+		return "MovementPrediction(gameTick=" + gameTick + ", ticks=" + ticks +
+			", npcs=" + Arrays.toString(npcIndex) + ", candidates=" + Arrays.toString(candidates) + ")";
+	}
+
+}
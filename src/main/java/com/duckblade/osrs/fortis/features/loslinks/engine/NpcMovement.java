@@ -0,0 +1,95 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+/**
+ * Predicts npc movement with the game's simple step-toward-target rule:
+ * each tick an npc that can't attack its target steps one tile towards it,
+ * diagonally if it can, otherwise along x, otherwise along y, and stays put if pillars block all of those.
+ * Npcs don't block each other here, and the target is assumed to stand still.
+ */
+public final class NpcMovement
+{
+
+	private NpcMovement()
+	{
+	}
+
+	/**
+	 * @return the tile index (see {@link ArenaGrid#index}) of the npc's sw tile after one tick
+	 */
+	public static int step(VisibilityTable table, int x, int y, int size, int attackRange, int targetX, int targetY)
+	{
+		int stepX = targetX < x ? -1 : targetX > ArenaGrid.footprintMaxX(x, size) ? 1 : 0;
+		int stepY = targetY < ArenaGrid.footprintMinY(y, size) ? -1 : targetY > y ? 1 : 0;
+		if (stepX == 0 && stepY == 0)
+		{
+			// target is underneath, the game shuffles the npc out randomly
+			return ArenaGrid.index(x, y);
+		}
+
+		int dx = ArenaGrid.footprintDistanceX(x, size, targetX);
+		int dy = ArenaGrid.footprintDistanceY(y, size, targetY);
+		if (ThreatMap.inRange(dx, dy, attackRange) && table.canSee(x, y, size, targetX, targetY))
+		{
+			return ArenaGrid.index(x, y);
+		}
+
+		ArenaGrid grid = table.getGrid();
+		// npcs never step diagonally onto their target
+		if (stepX != 0 && stepY != 0 && (dx > 1 || dy > 1) &&
+			canOccupy(grid, x + stepX, y + stepY, size) &&
+			canOccupy(grid, x + stepX, y, size) &&
+			canOccupy(grid, x, y + stepY, size))
+		{
+			return ArenaGrid.index(x + stepX, y + stepY);
+		}
+		if (stepX != 0 && canOccupy(grid, x + stepX, y, size))
+		{
+			return ArenaGrid.index(x + stepX, y);
+		}
+		if (stepY != 0 && canOccupy(grid, x, y + stepY, size))
+		{
+			return ArenaGrid.index(x, y + stepY);
+		}
+		return ArenaGrid.index(x, y);
+	}
+
+	/**
+	 * Writes the npc's tile index after each of the next {@code ticks} ticks into out, starting at offset.
+	 */
+	public static void predict(VisibilityTable table, int x, int y, int size, int attackRange, int targetX, int targetY, int[] out, int offset, int ticks)
+	{
+		for (int t = 0; t < ticks; t++)
+		{
+			int tile = step(table, x, y, size, attackRange, targetX, targetY);
+			out[offset + t] = tile;
+			x = tile % ArenaGrid.SIZE;
+			y = tile / ArenaGrid.SIZE;
+		}
+	}
+
+	/**
+	 * @return true if an npc at (x, y) could attack the target without moving, including when the target is underneath it
+	 */
+	public static boolean canAttack(VisibilityTable table, int x, int y, int size, int attackRange, int targetX, int targetY)
+	{
+		int dx = ArenaGrid.footprintDistanceX(x, size, targetX);
+		int dy = ArenaGrid.footprintDistanceY(y, size, targetY);
+		return dx + dy == 0 || ThreatMap.inRange(dx, dy, attackRange) && table.canSee(x, y, size, targetX, targetY);
+	}
+
+	private static boolean canOccupy(ArenaGrid grid, int x, int y, int size)
+	{
+		for (int dx = 0; dx < size; dx++)
+		{
+			for (int dy = 0; dy < size; dy++)
+			{
+				if (grid.isBlocked(x + dx, y - dy))
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,242 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import com.duckblade.osrs.fortis.util.IntObjectMap;
+import java.util.Arrays;
+
+/**
+ * How many npcs threaten each arena tile, meaning the npc has line of sight to it and it is within attack range.
+ * Each npc's contribution is kept as a tile bitset, so an update only touches the npcs that moved,
+ * and one that hasn't moved costs a single comparison.
+ * <p>
+ * Updates are made in passes: {@link #beginUpdate()}, {@link #update} for every npc still in the arena,
+ * then {@link #endUpdate()} which removes any npc not seen in the pass.
+ */
+public final class ThreatMap
+{
+
+	private static final int WORDS = (ArenaGrid.TILES + 63) >>> 6;
+
+	private static final class Contribution
+	{
+		int x;
+		int y;
+		int size;
+		int attackRange;
+		int generation;
+		final long[] tiles = new long[WORDS];
+	}
+
+	private final VisibilityTable table;
+	private final int[] threat = new int[ArenaGrid.TILES];
+	private final IntObjectMap<Contribution> npcs = new IntObjectMap<>(16);
+
+	private int generation;
+	private int[] stale = new int[16];
+	private long[] safestKeys = new long[0];
+
+	public ThreatMap(VisibilityTable table)
+	{
+		this.table = table;
+	}
+
+	public void beginUpdate()
+	{
+		generation++;
+	}
+
+	/**
+	 * @return true if the npc is new or has moved, changing the threat map
+	 */
+	public boolean update(int npcIndex, int x, int y, int size, int attackRange)
+	{
+		Contribution c = npcs.get(npcIndex);
+		if (c == null)
+		{
+			c = new Contribution();
+			npcs.put(npcIndex, c);
+		}
+		else if (c.x == x && c.y == y && c.size == size && c.attackRange == attackRange)
+		{
+			c.generation = generation;
+			return false;
+		}
+		else
+		{
+			apply(c, -1);
+		}
+
+		c.x = x;
+		c.y = y;
+		c.size = size;
+		c.attackRange = attackRange;
+		c.generation = generation;
+		compute(c);
+		apply(c, 1);
+		return true;
+	}
+
+	/**
+	 * @return true if any npc was removed, changing the threat map
+	 */
+	public boolean endUpdate()
+	{
+		int staleCount = 0;
+		for (int slot = 0; slot < npcs.capacity(); slot++)
+		{
+			Contribution c = npcs.valueAt(slot);
+			if (c != null && c.generation != generation)
+			{
+				if (staleCount == stale.length)
+				{
+					stale = Arrays.copyOf(stale, staleCount * 2);
+				}
+				stale[staleCount++] = npcs.keyAt(slot);
+			}
+		}
+
+		// removed afterwards, since removal can shift entries between slots
+		for (int i = 0; i < staleCount; i++)
+		{
+			apply(npcs.remove(stale[i]), -1);
+		}
+		return staleCount != 0;
+	}
+
+	public void clear()
+	{
+		npcs.clear();
+		Arrays.fill(threat, 0);
+	}
+
+	/**
+	 * @return the number of npcs threatening the tile, or -1 for blocked tiles
+	 */
+	public int getThreat(int x, int y)
+	{
+		return table.getGrid().isBlocked(x, y) ? -1 : threat[ArenaGrid.index(x, y)];
+	}
+
+	/**
+	 * @return the number of open tiles no npc threatens
+	 */
+	public int countSafeTiles()
+	{
+		int count = 0;
+		for (int y = 0; y < ArenaGrid.SIZE; y++)
+		{
+			for (int x = 0; x < ArenaGrid.SIZE; x++)
+			{
+				if (getThreat(x, y) == 0)
+				{
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the least threatened tiles, preferring those closest to the player on ties.
+	 *
+	 * @param out receives the tile indices (see {@link ArenaGrid#index}) in order, best first
+	 * @param limit the most tiles to find, no more than out.length
+	 * @return the number of tiles written
+	 */
+	public int findSafest(int playerX, int playerY, int[] out, int limit)
+	{
+		if (limit <= 0)
+		{
+			return 0;
+		}
+
+		// keys sort by threat then distance, a small insertion sort keeps only the best few
+		if (safestKeys.length < limit)
+		{
+			safestKeys = new long[limit];
+		}
+		long[] keys = safestKeys;
+		int count = 0;
+		ArenaGrid grid = table.getGrid();
+		for (int y = 0; y < ArenaGrid.SIZE; y++)
+		{
+			for (int x = 0; x < ArenaGrid.SIZE; x++)
+			{
+				if (grid.isBlocked(x, y))
+				{
+					continue;
+				}
+
+				int tile = ArenaGrid.index(x, y);
+				int distance = Math.max(Math.abs(x - playerX), Math.abs(y - playerY));
+				long key = ((long) threat[tile] << 32) | ((long) distance << 16) | tile;
+				if (count == limit && key >= keys[count - 1])
+				{
+					continue;
+				}
+
+				int i = count == limit ? count - 1 : count++;
+				for (; i > 0 && keys[i - 1] > key; i--)
+				{
+					keys[i] = keys[i - 1];
+				}
+				keys[i] = key;
+			}
+		}
+
+		for (int i = 0; i < count; i++)
+		{
+			out[i] = (int) (keys[i] & 0xFFFF);
+		}
+		return count;
+	}
+
+	private void compute(Contribution c)
+	{
+		Arrays.fill(c.tiles, 0);
+
+		int reach = Math.max(c.attackRange, 0);
+		int minX = Math.max(0, c.x - reach);
+		int maxX = Math.min(ArenaGrid.SIZE - 1, ArenaGrid.footprintMaxX(c.x, c.size) + reach);
+		int minY = Math.max(0, ArenaGrid.footprintMinY(c.y, c.size) - reach);
+		int maxY = Math.min(ArenaGrid.SIZE - 1, c.y + reach);
+
+		for (int ty = minY; ty <= maxY; ty++)
+		{
+			int dy = ArenaGrid.footprintDistanceY(c.y, c.size, ty);
+			for (int tx = minX; tx <= maxX; tx++)
+			{
+				int dx = ArenaGrid.footprintDistanceX(c.x, c.size, tx);
+				if (inRange(dx, dy, c.attackRange) && table.canSee(c.x, c.y, c.size, tx, ty))
+				{
+					int tile = ArenaGrid.index(tx, ty);
+					c.tiles[tile >>> 6] |= 1L << tile;
+				}
+			}
+		}
+	}
+
+	// dx/dy are the distances from the footprint, tiles underneath it always count as threatened
+	static boolean inRange(int dx, int dy, int attackRange)
+	{
+		if (attackRange <= 1)
+		{
+			// melee can't reach diagonally
+			return dx + dy <= 1;
+		}
+		return Math.max(dx, dy) <= attackRange;
+	}
+
+	private void apply(Contribution c, int sign)
+	{
+		for (int word = 0; word < WORDS; word++)
+		{
+			long bits = c.tiles[word];
+			while (bits != 0)
+			{
+				threat[(word << 6) + Long.numberOfTrailingZeros(bits)] += sign;
+				bits &= bits - 1;
+			}
+		}
+	}
+
+}
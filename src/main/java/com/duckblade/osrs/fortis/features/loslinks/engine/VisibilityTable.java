@@ -0,0 +1,128 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+/**
+ * Every tile-to-tile line of sight result in the arena, computed once into a bitset
+ * so that each query is a single bit test.
+ * The colosseum's table is built on first use, which takes a few hundred milliseconds,
+ * so it should be {@link #warm()}ed from a background thread,
+ * and callers on the client thread use {@link #colosseumIfReady()} until it is.
+ */
+public final class VisibilityTable
+{
+
+	private static final int WORDS_PER_TILE = (ArenaGrid.TILES + 63) >>> 6;
+
+	private static volatile VisibilityTable colosseum;
+
+	private final ArenaGrid grid;
+
+	// bit (to) of row (from) is set when from can see to
+	private final long[] visible;
+
+	private VisibilityTable(ArenaGrid grid, long[] visible)
+	{
+		this.grid = grid;
+		this.visible = visible;
+	}
+
+	public static VisibilityTable colosseum()
+	{
+		VisibilityTable table = colosseum;
+		if (table == null)
+		{
+			synchronized (VisibilityTable.class)
+			{
+				table = colosseum;
+				if (table == null)
+				{
+					colosseum = table = build(ArenaGrid.COLOSSEUM);
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * @return the colosseum table, or null if it hasn't finished building yet
+	 */
+	public static VisibilityTable colosseumIfReady()
+	{
+		return colosseum;
+	}
+
+	/**
+	 * Builds the colosseum table if it hasn't been already.
+	 */
+	public static void warm()
+	{
+		colosseum();
+	}
+
+	public static VisibilityTable build(ArenaGrid grid)
+	{
+		long[] visible = new long[ArenaGrid.TILES * WORDS_PER_TILE];
+		for (int fromY = 0; fromY < ArenaGrid.SIZE; fromY++)
+		{
+			for (int fromX = 0; fromX < ArenaGrid.SIZE; fromX++)
+			{
+				int row = ArenaGrid.index(fromX, fromY) * WORDS_PER_TILE;
+				for (int toY = 0; toY < ArenaGrid.SIZE; toY++)
+				{
+					for (int toX = 0; toX < ArenaGrid.SIZE; toX++)
+					{
+						if (LineOfSight.hasLineOfSight(grid, fromX, fromY, toX, toY))
+						{
+							int to = ArenaGrid.index(toX, toY);
+							visible[row + (to >>> 6)] |= 1L << to;
+						}
+					}
+				}
+			}
+		}
+		return new VisibilityTable(grid, visible);
+	}
+
+	public ArenaGrid getGrid()
+	{
+		return grid;
+	}
+
+	public boolean canSee(int fromX, int fromY, int toX, int toY)
+	{
+		if (!ArenaGrid.inBounds(fromX, fromY) || !ArenaGrid.inBounds(toX, toY))
+		{
+			return false;
+		}
+
+		int to = ArenaGrid.index(toX, toY);
+		return (visible[ArenaGrid.index(fromX, fromY) * WORDS_PER_TILE + (to >>> 6)] & (1L << to)) != 0;
+	}
+
+	/**
+	 * Line of sight from an npc of the given size, checked from the tile of its footprint nearest the target,
+	 * the same way the game measures distance for larger npcs.
+	 */
+	public boolean canSee(int npcX, int npcY, int npcSize, int toX, int toY)
+	{
+		int fromX = ArenaGrid.nearestFootprintX(npcX, npcSize, toX);
+		int fromY = ArenaGrid.nearestFootprintY(npcY, npcSize, toY);
+		return canSee(fromX, fromY, toX, toY);
+	}
+
+	/**
+	 * @return a mask with bit i set if the npc in slot i can see the tile
+	 */
+	public long visibleMask(ArenaNpcs npcs, int toX, int toY)
+	{
+		long mask = 0;
+		for (int i = 0; i < npcs.count(); i++)
+		{
+			if (canSee(npcs.getX(i), npcs.getY(i), npcs.getSize(i), toX, toY))
+			{
+				mask |= 1L << i;
+			}
+		}
+		return mask;
+	}
+
+}
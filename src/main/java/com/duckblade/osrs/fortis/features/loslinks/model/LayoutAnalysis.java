@@ -0,0 +1,43 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import lombok.Data;
+
+/**
+ * Everything remembered about a {@link LayoutFingerprint} across runs, persisted by LayoutCache.
+ */
+@Data
+public class LayoutAnalysis
+{
+
+	// link to the first time this layout was seen
+	private String losUrl;
+
+	private int seen;
+	private int cleared;
+	private int bestTicks = -1;
+
+	// tiles no enemy could attack when the layout spawned, -1 until computed
+	private int safeTiles = -1;
+
+	// the last solver output, which depends on where the player started and how far it looked
+	private int solverPlayerTile = -1;
+	private int[] solverPath;
+	private int[] solverExposures;
+	private int solverIdleExposure;
+
+	public LayoutAnalysis copy()
+	{
+		LayoutAnalysis copy = new LayoutAnalysis();
+		copy.losUrl = losUrl;
+		copy.seen = seen;
+		copy.cleared = cleared;
+		copy.bestTicks = bestTicks;
+		copy.safeTiles = safeTiles;
+		copy.solverPlayerTile = solverPlayerTile;
+		copy.solverPath = solverPath == null ? null : solverPath.clone();
+		copy.solverExposures = solverExposures == null ? null : solverExposures.clone();
+		copy.solverIdleExposure = solverIdleExposure;
+		return copy;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import java.util.Arrays;
+
+/**
+ * Identifies a spawn layout independent of npc indices, orb orders and where the player stood:
+ * the wave number and the sorted (enemy, sw tile) pairs of every npc in the record.
+ * {@link #toString()} is the canonical key, which {@link #parse} reads back.
+ */
+public final class LayoutFingerprint
+{
+
+	private static final int COORD_BITS = 6;
+	private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+
+	private final int wave;
+
+	// sorted, each enemy ordinal << 12 | x << 6 | y
+	private final int[] spawns;
+
+	private final int hash;
+
+	private LayoutFingerprint(int wave, int[] spawns)
+	{
+		Arrays.sort(spawns);
+		this.wave = wave;
+		this.spawns = spawns;
+		this.hash = 31 * wave + Arrays.hashCode(spawns);
+	}
+
+	public static LayoutFingerprint of(WaveSpawnRecord record)
+	{
+		int[] spawns = new int[record.getSpawns().size()];
+		for (int i = 0; i < spawns.length; i++)
+		{
+			NpcSpawn spawn = record.getSpawns().get(i);
+			spawns[i] = spawn.getEnemyType().ordinal() << (2 * COORD_BITS) |
+				(spawn.getSwTile().getX() & COORD_MASK) << COORD_BITS |
+				(spawn.getSwTile().getY() & COORD_MASK);
+		}
+		return new LayoutFingerprint(record.getWave(), spawns);
+	}
+
+	/**
+	 * @throws IllegalArgumentException if key wasn't produced by {@link #toString()}
+	 */
+	public static LayoutFingerprint parse(String key)
+	{
+		int colon = key.indexOf(':');
+		if (colon <= 0)
+		{
+			throw new IllegalArgumentException("Not a layout fingerprint: " + key);
+		}
+
+		try
+		{
+			int wave = Integer.parseInt(key.substring(0, colon));
+			String body = key.substring(colon + 1);
+			String[] parts = body.isEmpty() ? new String[0] : body.split(",");
+			int[] spawns = new int[parts.length];
+			for (int i = 0; i < parts.length; i++)
+			{
+				spawns[i] = Integer.parseInt(parts[i], 16);
+			}
+			return new LayoutFingerprint(wave, spawns);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Not a layout fingerprint: " + key, e);
+		}
+	}
+
+	public int getWave()
+	{
+		return wave;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if (this == o)
+		{
+			return true;
+		}
+		if (!(o instanceof LayoutFingerprint))
+		{
+			return false;
+		}
+
+		LayoutFingerprint other = (LayoutFingerprint) o;
+		return hash == other.hash && wave == other.wave && Arrays.equals(spawns, other.spawns);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder().append(wave).append(':');
+		for (int i = 0; i < spawns.length; i++)
+		{
+			if (i != 0)
+			{
+				sb.append(',');
+			}
+			sb.append(Integer.toHexString(spawns[i]));
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,298 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import com.duckblade.osrs.fortis.util.spawns.Enemy;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.Point;
+
+/**
+ * Encodes {@link WaveSpawnRecord}s to los.colosim.com links and decodes them back.
+ * Encoding writes digits directly into a per-thread reusable builder, without String.format.
+ * <p>
+ * A link is {@code https://los.colosim.com/?} followed by one {@code XXYYe[u][orbs].} segment per NPC,
+ * where XX and YY are the zero-padded sw tile, e is the colosim enemy id,
+ * u marks an uncharged manticore, and orbs is its {@link ManticoreOrbOrder#toLoSCode()}.
+ * Then {@code #} and the player tile as {@code x + 256 * y}, and optionally {@code _ws} and {@code _mm3}.
+ */
+public final class LosUrlCodec
+{
+
+	public static final String URL_PREFIX = "https://los.colosim.com/?";
+
+	private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+	private static final Enemy[] ENEMY_BY_LOS_ID = new Enemy[10];
+	private static final int REINFORCEMENT_ONLY_LOS_ID;
+
+	static
+	{
+		int reinforcementId = -1;
+		for (Enemy enemy : Enemy.values())
+		{
+			if (enemy.getColosimLosId() != -1)
+			{
+				ENEMY_BY_LOS_ID[enemy.getColosimLosId()] = enemy;
+			}
+			if (enemy.getReinforcementColosimLosId() != -1)
+			{
+				ENEMY_BY_LOS_ID[enemy.getReinforcementColosimLosId()] = enemy;
+				reinforcementId = enemy.getReinforcementColosimLosId();
+			}
+		}
+		REINFORCEMENT_ONLY_LOS_ID = reinforcementId;
+	}
+
+	private LosUrlCodec()
+	{
+	}
+
+	public static String encode(WaveSpawnRecord record)
+	{
+		StringBuilder sb = SCRATCH.get();
+		sb.setLength(0);
+		encode(record, sb);
+		return sb.toString();
+	}
+
+	public static String encode(NpcSpawn spawn)
+	{
+		StringBuilder sb = SCRATCH.get();
+		sb.setLength(0);
+		encode(spawn, sb);
+		return sb.toString();
+	}
+
+	public static void encode(WaveSpawnRecord record, StringBuilder out)
+	{
+		out.append(URL_PREFIX);
+		for (NpcSpawn spawn : record.getSpawns())
+		{
+			encode(spawn, out);
+		}
+
+		Point player = record.getPlayerTile();
+		out.append('#').append(player.getX() + (256 * player.getY()));
+
+		if (record.isWaveSpawn())
+		{
+			out.append("_ws");
+		}
+
+		if (record.isMm3())
+		{
+			out.append("_mm3");
+		}
+	}
+
+	public static void encode(NpcSpawn spawn, StringBuilder out)
+	{
+		appendTwoDigits(out, spawn.getSwTile().getX());
+		appendTwoDigits(out, spawn.getSwTile().getY());
+		out.append(spawn.getEnemyType().getColosimLosId(spawn.isReinforcement()));
+
+		if (spawn.getEnemyType() == Enemy.MANTICORE)
+		{
+			if (!spawn.isManticoreCharged())
+			{
+				out.append('u');
+			}
+			if (spawn.getOrbOrder() != null)
+			{
+				out.append(spawn.getOrbOrder().toLoSCode());
+			}
+		}
+
+		out.append('.');
+	}
+
+	/**
+	 * Parses a link produced by {@link #encode(WaveSpawnRecord)}.
+	 * The wave number and NPC indices are not part of the link, so spawns are numbered in link order
+	 * and only the reinforcement-specific colosim ids decode as reinforcements.
+	 *
+	 * @throws IllegalArgumentException if the link is malformed
+	 */
+	public static WaveSpawnRecord decode(String url, int wave)
+	{
+		int pos = url.indexOf('?') + 1;
+		int hash = url.indexOf('#', pos);
+		if (hash == -1)
+		{
+			throw invalid(url, "missing player tile");
+		}
+
+		List<NpcSpawn> spawns = new ArrayList<>();
+		while (pos < hash)
+		{
+			int end = url.indexOf('.', pos);
+			if (end == -1 || end > hash)
+			{
+				throw invalid(url, "unterminated npc segment at " + pos);
+			}
+			spawns.add(decodeSpawn(url, pos, end, spawns.size()));
+			pos = end + 1;
+		}
+
+		pos = hash + 1;
+		int playerEnd = pos;
+		while (playerEnd < url.length() && isDigit(url.charAt(playerEnd)))
+		{
+			playerEnd++;
+		}
+		if (playerEnd == pos)
+		{
+			throw invalid(url, "missing player tile");
+		}
+		int playerEncoded = parseInt(url, pos, playerEnd);
+
+		boolean waveSpawn = false;
+		boolean mm3 = false;
+		for (pos = playerEnd; pos < url.length(); )
+		{
+			if (url.startsWith("_ws", pos))
+			{
+				waveSpawn = true;
+				pos += 3;
+			}
+			else if (url.startsWith("_mm3", pos))
+			{
+				mm3 = true;
+				pos += 4;
+			}
+			else
+			{
+				throw invalid(url, "unknown flag at " + pos);
+			}
+		}
+
+		return new WaveSpawnRecord(wave, new Point(playerEncoded % 256, playerEncoded / 256), spawns, waveSpawn, mm3);
+	}
+
+	private static NpcSpawn decodeSpawn(String url, int start, int end, int npcIndex)
+	{
+		if (end - start < 5 || !isDigits(url, start, start + 5))
+		{
+			throw invalid(url, "bad npc segment at " + start);
+		}
+
+		int x = parseInt(url, start, start + 2);
+		int y = parseInt(url, start + 2, start + 4);
+		int losId = url.charAt(start + 4) - '0';
+		Enemy enemy = ENEMY_BY_LOS_ID[losId];
+		if (enemy == null)
+		{
+			throw invalid(url, "unknown enemy id " + losId);
+		}
+
+		int pos = start + 5;
+		ManticoreOrbOrder orbOrder = null;
+		boolean charged = false;
+		if (enemy == Enemy.MANTICORE)
+		{
+			charged = pos == end || url.charAt(pos) != 'u';
+			if (!charged)
+			{
+				pos++;
+			}
+			orbOrder = decodeOrbs(url, pos, end);
+			pos = end;
+		}
+
+		if (pos != end)
+		{
+			throw invalid(url, "trailing characters in npc segment at " + start);
+		}
+
+		return new NpcSpawn(npcIndex, new Point(x, y), enemy, losId == REINFORCEMENT_ONLY_LOS_ID, orbOrder, charged);
+	}
+
+	private static ManticoreOrbOrder decodeOrbs(String url, int start, int end)
+	{
+		ManticoreOrbOrder orbOrder = new ManticoreOrbOrder();
+		switch (end - start)
+		{
+			case 0:
+				break;
+
+			case 1:
+				// only the first orb is written when melee is last, the middle orb is whichever remains
+				ManticoreOrbType first = orbType(url, start);
+				if (first == ManticoreOrbType.MELEE)
+				{
+					throw invalid(url, "bad manticore orbs at " + start);
+				}
+				orbOrder.setFirst(first);
+				orbOrder.setSecond(first == ManticoreOrbType.MAGIC ? ManticoreOrbType.RANGED : ManticoreOrbType.MAGIC);
+				orbOrder.setThird(ManticoreOrbType.MELEE);
+				break;
+
+			case 3:
+				orbOrder.setFirst(orbType(url, start));
+				orbOrder.setSecond(orbType(url, start + 1));
+				orbOrder.setThird(orbType(url, start + 2));
+				break;
+
+			default:
+				throw invalid(url, "bad manticore orbs at " + start);
+		}
+		return orbOrder;
+	}
+
+	private static ManticoreOrbType orbType(String url, int pos)
+	{
+		char c = url.charAt(pos);
+		for (ManticoreOrbType type : ManticoreOrbType.values())
+		{
+			if (type.getCode() == c)
+			{
+				return type;
+			}
+		}
+		throw invalid(url, "unknown manticore orb '" + c + "'");
+	}
+
+	// matches %02d, including the unpadded fallback outside 0-99
+	private static void appendTwoDigits(StringBuilder out, int value)
+	{
+		if (value < 0 || value > 99)
+		{
+			out.append(value);
+			return;
+		}
+
+		out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+	}
+
+	private static int parseInt(String s, int start, int end)
+	{
+		int value = 0;
+		for (int i = start; i < end; i++)
+		{
+			value = value * 10 + (s.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static boolean isDigits(String s, int start, int end)
+	{
+		for (int i = start; i < end; i++)
+		{
+			if (!isDigit(s.charAt(i)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+	private static IllegalArgumentException invalid(String url, String reason)
+	{
+		return new IllegalArgumentException("Invalid LoS url (" + reason + "): " + url);
+	}
+
+}
@@ -16,24 +16,6 @@ public class NpcSpawn
 
 	public String toLosUrlSegment()
 	{
-		StringBuilder sb = new StringBuilder();
-		sb.append(String.format(
-			"%02d%02d%d",
-			swTile.getX(),
-			swTile.getY(),
-			enemyType.getColosimLosId(reinforcement)
-		));
-
-		if (enemyType == Enemy.MANTICORE)
-		{
-			if (!manticoreCharged)
-			{
-				sb.append('u');
-			}
-			sb.append(orbOrder.toLoSCode());
-		}
-
-		sb.append('.');
-		return sb.toString();
+		return LosUrlCodec.encode(this);
 	}
 }
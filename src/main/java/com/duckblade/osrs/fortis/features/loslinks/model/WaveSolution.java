@@ -0,0 +1,14 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import com.duckblade.osrs.fortis.features.loslinks.engine.ExposurePlan;
+import lombok.Value;
+
+@Value
+public class WaveSolution
+{
+
+	WaveSpawnRecord record;
+	ExposurePlan plan;
+	LayoutAnalysis layout;
+
+}
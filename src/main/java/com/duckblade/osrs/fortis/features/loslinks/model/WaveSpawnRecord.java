@@ -16,27 +16,7 @@ public class WaveSpawnRecord
 
 	public String toLoSUrl()
 	{
-		StringBuilder urlBuilder = new StringBuilder("https://los.colosim.com/?");
-
-		for (NpcSpawn spawn : spawns)
-		{
-			urlBuilder.append(spawn.toLosUrlSegment());
-		}
-
-		int playerEncoded = playerTile.getX() + (256 * playerTile.getY());
-		urlBuilder.append("#").append(playerEncoded);
-
-		if (waveSpawn)
-		{
-			urlBuilder.append("_ws");
-		}
-
-		if (mm3)
-		{
-			urlBuilder.append("_mm3");
-		}
-
-		return urlBuilder.toString();
+		return LosUrlCodec.encode(this);
 	}
 
 }
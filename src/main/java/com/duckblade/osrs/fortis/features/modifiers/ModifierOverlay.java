@@ -1,23 +1,22 @@
 package com.duckblade.osrs.fortis.features.modifiers;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -34,7 +33,7 @@ public class ModifierOverlay extends OverlayPanel implements PluginLifecycleComp
 	private static final int SPRITE_PADDING = 4;
 
 	private final OverlayManager overlayManager;
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final Client client;
 	private final TooltipManager tooltipManager;
 	private final FortisColosseumConfig config;
@@ -44,7 +43,7 @@ public class ModifierOverlay extends OverlayPanel implements PluginLifecycleComp
 	@Inject
 	public ModifierOverlay(
 		OverlayManager overlayManager,
-		EventBus eventBus,
+		PluginEventBus eventBus,
 		Client client,
 		TooltipManager tooltipManager,
 		FortisColosseumConfig config,
@@ -77,12 +76,6 @@ public class ModifierOverlay extends OverlayPanel implements PluginLifecycleComp
 		});
 	}
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.modifiersOverlayEnabled() && colosseumState.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -109,10 +102,11 @@ public class ModifierOverlay extends OverlayPanel implements PluginLifecycleComp
 
 		int x = 4;
 		int y = 4;
-		List<Modifier> mods = stateTracker.getCurrentState().getModifiers();
+		ModifierSet mods = stateTracker.getCurrentState().getModifiers();
 		ModifierSpriteStyle style = config.modifiersOverlayStyle();
-		for (Modifier modifier : mods)
+		for (int i = 0; i < mods.size(); i++)
 		{
+			Modifier modifier = mods.get(i);
 			if (orientation == ComponentOrientation.HORIZONTAL)
 			{
 				x += renderModifier(modifier, style, x, y) + SPRITE_PADDING;
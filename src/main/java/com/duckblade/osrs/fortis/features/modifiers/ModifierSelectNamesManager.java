@@ -1,8 +1,7 @@
 package com.duckblade.osrs.fortis.features.modifiers;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import com.duckblade.osrs.fortis.util.Modifier;
 import java.util.List;
@@ -19,7 +18,6 @@ import net.runelite.api.widgets.WidgetSizeMode;
 import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.api.widgets.WidgetUtil;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -35,16 +33,10 @@ public class ModifierSelectNamesManager implements PluginLifecycleComponent
 	private static final int WIDGET_OPTION_2 = WidgetUtil.packComponentId(865, 16);
 	private static final int WIDGET_OPTION_3 = WidgetUtil.packComponentId(865, 17);
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final Client client;
 	private final ColosseumStateTracker stateTracker;
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.modifiersNamesOnSelectWidget() && colosseumState.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -1,8 +1,7 @@
 package com.duckblade.osrs.fortis.features.modifiers;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.Modifier;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
@@ -18,7 +17,6 @@ import net.runelite.api.NPC;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.events.ActorDeath;
 import net.runelite.api.gameval.NpcID;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -34,7 +32,7 @@ public class VolatilityReminder extends Overlay implements PluginLifecycleCompon
 	private static final Duration RENDER_DURATION = Duration.of(5, RSTimeUnit.GAME_TICKS);
 
 	@Inject
-	public VolatilityReminder(EventBus eventBus, OverlayManager overlayManager, Client client, ModifierSpriteCache spriteCache)
+	public VolatilityReminder(PluginEventBus eventBus, OverlayManager overlayManager, Client client, ModifierSpriteCache spriteCache)
 	{
 		this.eventBus = eventBus;
 		this.overlayManager = overlayManager;
@@ -53,7 +51,7 @@ public class VolatilityReminder extends Overlay implements PluginLifecycleCompon
 		Instant renderUntil;
 	}
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final OverlayManager overlayManager;
 
 	private final Client client;
@@ -61,14 +59,6 @@ public class VolatilityReminder extends Overlay implements PluginLifecycleCompon
 
 	private final Set<DeathReminder> reminders = new HashSet<>();
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.volatilityReminder()
-			&& colosseumState.isInColosseum()
-			&& colosseumState.getModifiers().contains(Modifier.VOLATILITY);
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -1,8 +1,8 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
 import com.duckblade.osrs.fortis.util.TimerMode;
 import com.google.common.annotations.VisibleForTesting;
@@ -22,7 +22,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.RuneLite;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -40,7 +39,7 @@ public class SplitsFileWriter implements PluginLifecycleComponent
 
 	private static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 
 	private final FortisColosseumConfig config;
 	private final SplitsTracker splitsTracker;
@@ -49,12 +48,6 @@ public class SplitsFileWriter implements PluginLifecycleComponent
 	@VisibleForTesting
 	ExecutorService es;
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.splitsFileCondition() != WriteCondition.NEVER;
-	}
-
 	@Override
 	public void startUp()
 	{
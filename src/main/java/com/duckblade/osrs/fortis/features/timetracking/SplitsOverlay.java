@@ -1,8 +1,9 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.features.timetracking.history.RunHistory;
+import com.duckblade.osrs.fortis.features.timetracking.history.SplitComparison;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
 import com.duckblade.osrs.fortis.util.TimerMode;
 import java.awt.Dimension;
@@ -29,6 +30,21 @@ public class SplitsOverlay extends OverlayPanel implements PluginLifecycleCompon
 	private final FortisColosseumConfig config;
 	private final SplitsTracker splitsTracker;
 	private final ColosseumStateTracker stateTracker;
+	private final RunHistory runHistory;
+
+	private final TitleComponent title = TitleComponent.builder()
+		.text("Fortis Colosseum Splits")
+		.build();
+
+	// the displayed times only change once per tick, so the lines are kept
+	// between frames until the tick or anything else they depend on changes
+	private int cachedTick = -1;
+	private TimerMode cachedTimerMode;
+	private SplitsOverlayMode cachedOverlayMode;
+	private int cachedWavesWanted;
+	private boolean cachedWaveStarted;
+	private int cachedSplitCount;
+	private SplitComparison cachedComparison;
 
 	@Inject
 	public SplitsOverlay(
@@ -36,7 +52,8 @@ public class SplitsOverlay extends OverlayPanel implements PluginLifecycleCompon
 		Client client,
 		FortisColosseumConfig config,
 		SplitsTracker splitsTracker,
-		ColosseumStateTracker stateTracker
+		ColosseumStateTracker stateTracker,
+		RunHistory runHistory
 	)
 	{
 		this.overlayManager = overlayManager;
@@ -44,19 +61,16 @@ public class SplitsOverlay extends OverlayPanel implements PluginLifecycleCompon
 		this.config = config;
 		this.splitsTracker = splitsTracker;
 		this.stateTracker = stateTracker;
+		this.runHistory = runHistory;
 
 		setPosition(OverlayPosition.CANVAS_TOP_RIGHT);
-	}
-
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState state)
-	{
-		return state.isInColosseum() && config.splitsOverlayMode() != SplitsOverlayMode.OFF;
+		setClearChildren(false);
 	}
 
 	@Override
 	public void startUp()
 	{
+		invalidate();
 		overlayManager.add(this);
 	}
 
@@ -64,21 +78,43 @@ public class SplitsOverlay extends OverlayPanel implements PluginLifecycleCompon
 	public void shutDown()
 	{
 		overlayManager.remove(this);
+		invalidate();
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		long start = System.currentTimeMillis();
-		getPanelComponent().getChildren()
-			.add(TitleComponent.builder()
-				.text("Fortis Colosseum Splits")
-				.build());
-
 		TimerMode timerMode = TimerMode.fromClient(client);
 		SplitsOverlayMode overlayMode = config.splitsOverlayMode();
 		boolean waveStarted = stateTracker.getCurrentState().isWaveStarted();
 		int wavesWanted = config.splitsOverlayLines();
+		int tick = client.getTickCount();
+		int splitCount = splitsTracker.getSplitCount();
+		// swapped for a new instance whenever the history finishes loading it
+		SplitComparison comparison = runHistory.getComparison();
+
+		if (tick != cachedTick || timerMode != cachedTimerMode || overlayMode != cachedOverlayMode ||
+			wavesWanted != cachedWavesWanted || waveStarted != cachedWaveStarted || splitCount != cachedSplitCount ||
+			comparison != cachedComparison)
+		{
+			cachedTick = tick;
+			cachedTimerMode = timerMode;
+			cachedOverlayMode = overlayMode;
+			cachedWavesWanted = wavesWanted;
+			cachedWaveStarted = waveStarted;
+			cachedSplitCount = splitCount;
+			cachedComparison = comparison;
+			rebuildLines(timerMode, overlayMode, waveStarted, wavesWanted, comparison);
+		}
+
+		return super.render(graphics);
+	}
+
+	private void rebuildLines(TimerMode timerMode, SplitsOverlayMode overlayMode, boolean waveStarted, int wavesWanted, SplitComparison comparison)
+	{
+		long start = System.currentTimeMillis();
+		getPanelComponent().getChildren().clear();
+		getPanelComponent().getChildren().add(title);
 
 		if (wavesWanted > 0)
 		{
@@ -91,27 +127,35 @@ public class SplitsOverlay extends OverlayPanel implements PluginLifecycleCompon
 				List<Split> visibleSplits = allSplits.subList(Math.max(0, allSplits.size() - visibleSplitsCount), allSplits.size()); // last N splits
 				for (Split s : visibleSplits)
 				{
-					addLine("Wave " + s.getWave(), overlayMode.formatSplit(timerMode, s));
+					addLine("Wave " + s.getWave(), overlayMode.formatSplit(timerMode, s, comparison));
 				}
 			}
 
 			Split inProgress = splitsTracker.getInProgressSplit();
 			if (showCurrentWave)
 			{
-				String text = overlayMode.formatSplit(timerMode, inProgress);
+				String text = overlayMode.formatInProgressSplit(timerMode, inProgress, comparison);
 				addLine("Wave " + inProgress.getWave(), text);
 			}
 		}
 
-		String text = overlayMode.formatTotal(timerMode, splitsTracker.getWaveCumulativeDuration(), splitsTracker.getCumulativeDuration());
+		// the wave time includes the wave in progress, if any
+		int totalWave = waveStarted ? stateTracker.getCurrentState().getWaveNumber() : splitsTracker.getSplitCount();
+		String text = overlayMode.formatTotal(timerMode, splitsTracker.getWaveCumulativeDuration(), splitsTracker.getCumulativeDuration(), comparison, totalWave);
 		addLine("Total", text);
 
 		long ms = System.currentTimeMillis() - start;
 		if (ms > 1)
 		{
-			log.debug("splits overlay rendered in {}ms", ms);
+			log.debug("splits overlay rebuilt in {}ms", ms);
 		}
-		return super.render(graphics);
+	}
+
+	private void invalidate()
+	{
+		cachedTick = -1;
+		cachedComparison = null;
+		getPanelComponent().getChildren().clear();
 	}
 
 	private void addLine(String left, String right)
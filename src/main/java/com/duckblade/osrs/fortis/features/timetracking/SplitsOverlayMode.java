@@ -1,5 +1,7 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
+import com.duckblade.osrs.fortis.features.timetracking.history.RunRecord;
+import com.duckblade.osrs.fortis.features.timetracking.history.SplitComparison;
 import com.duckblade.osrs.fortis.util.TimerMode;
 
 public enum SplitsOverlayMode
@@ -9,9 +11,11 @@ public enum SplitsOverlayMode
 	WAVE_TIME,
 	CUMULATIVE,
 	BOTH,
+	DELTA_PB,
+	DELTA_SUM_OF_BEST,
 	;
 
-	public String formatSplit(TimerMode timerMode, Split split)
+	public String formatSplit(TimerMode timerMode, Split split, SplitComparison comparison)
 	{
 		switch (this)
 		{
@@ -22,14 +26,39 @@ public enum SplitsOverlayMode
 				return timerMode.format(split.getCumulativeDuration());
 
 			case BOTH:
-				return timerMode.format(split.getWaveDuration()) + " / " + timerMode.format(split.getCumulativeDuration());
+				return formatBoth(timerMode, split.getWaveDuration(), split.getCumulativeDuration());
+
+			case DELTA_PB:
+			case DELTA_SUM_OF_BEST:
+				return formatDelta(timerMode, split.getCumulativeWaveDuration(), getComparisonTicks(comparison, split.getWave()), split.getWaveDuration());
 
 			default:
 				return "";
 		}
 	}
 
-	public String formatTotal(TimerMode timerMode, int waveTime, int overallTime)
+	/**
+	 * Same as {@link #formatSplit}, but for the wave still in progress,
+	 * whose split doesn't include the current wave in its cumulative wave time yet.
+	 */
+	public String formatInProgressSplit(TimerMode timerMode, Split split, SplitComparison comparison)
+	{
+		switch (this)
+		{
+			case DELTA_PB:
+			case DELTA_SUM_OF_BEST:
+				int elapsed = split.getCumulativeWaveDuration() + Math.max(0, split.getWaveDuration());
+				return formatDelta(timerMode, elapsed, getComparisonTicks(comparison, split.getWave()), split.getWaveDuration());
+
+			default:
+				return formatSplit(timerMode, split, comparison);
+		}
+	}
+
+	/**
+	 * @param wave the wave waveTime runs up to, which the delta modes compare against
+	 */
+	public String formatTotal(TimerMode timerMode, int waveTime, int overallTime, SplitComparison comparison, int wave)
 	{
 		switch (this)
 		{
@@ -40,11 +69,44 @@ public enum SplitsOverlayMode
 				return timerMode.format(overallTime);
 
 			case BOTH:
-				return timerMode.format(waveTime) + " / " + timerMode.format(overallTime);
+				return formatBoth(timerMode, waveTime, overallTime);
+
+			case DELTA_PB:
+			case DELTA_SUM_OF_BEST:
+				return formatDelta(timerMode, waveTime, getComparisonTicks(comparison, wave), waveTime);
 
 			default:
 				return "";
 		}
 	}
 
+	private int getComparisonTicks(SplitComparison comparison, int wave)
+	{
+		if (wave < 1 || wave > RunRecord.WAVES)
+		{
+			return -1;
+		}
+		return this == DELTA_PB ? comparison.getPersonalBest(wave) : comparison.getSumOfBest(wave);
+	}
+
+	// falls back to the wave time until there is something to compare against
+	private static String formatDelta(TimerMode timerMode, int ticks, int comparisonTicks, int waveTicks)
+	{
+		if (ticks < 0 || comparisonTicks == -1)
+		{
+			return timerMode.format(waveTicks);
+		}
+
+		int delta = ticks - comparisonTicks;
+		StringBuilder sb = new StringBuilder(12).append(delta < 0 ? '-' : '+');
+		return timerMode.appendTo(sb, Math.abs(delta)).toString();
+	}
+
+	private static String formatBoth(TimerMode timerMode, int first, int second)
+	{
+		StringBuilder sb = new StringBuilder(24);
+		timerMode.appendTo(sb, first).append(" / ");
+		return timerMode.appendTo(sb, second).toString();
+	}
+
 }
@@ -1,24 +1,20 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
 import com.duckblade.osrs.fortis.features.timetracking.livesplit.LiveSplitManager;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
+import com.duckblade.osrs.fortis.util.chat.WaveCompleted;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
-import net.runelite.api.events.ChatMessage;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -27,10 +23,7 @@ import net.runelite.client.eventbus.Subscribe;
 public class SplitsTracker implements PluginLifecycleComponent
 {
 
-	private static final Pattern WAVE_COMPLETE_PATTERN =
-		Pattern.compile("Wave (?<wave>\\d+) completed! Wave duration:.*?(?<duration>[0-9]+:[.0-9]+).*");
-
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 
 	private final Client client;
 	private final ColosseumStateTracker stateTracker;
@@ -40,12 +33,9 @@ public class SplitsTracker implements PluginLifecycleComponent
 	private int lastWaveStart = -1;
 	private final List<Split> splits = new ArrayList<>(12);
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState state)
-	{
-		// always track, conditionally display
-		return state.isInColosseum();
-	}
+	// completedWaveDurations[n] is the total duration of the first n completed waves,
+	// kept up to date on each completion so the overlay can read totals every frame
+	private int[] completedWaveDurations = new int[13];
 
 	@Override
 	public void startUp()
@@ -53,6 +43,7 @@ public class SplitsTracker implements PluginLifecycleComponent
 		runStart = -1;
 		lastWaveStart = -1;
 		splits.clear();
+		completedWaveDurations[0] = 0;
 		eventBus.register(this);
 	}
 
@@ -63,27 +54,15 @@ public class SplitsTracker implements PluginLifecycleComponent
 	}
 
 	@Subscribe
-	public void onChatMessage(ChatMessage e)
+	public void onWaveCompleted(WaveCompleted e)
 	{
-		if (e.getType() != ChatMessageType.GAMEMESSAGE)
+		if (e.getDurationTicks() == -1)
 		{
 			return;
 		}
 
-		String msg = e.getMessage();
-		if (!msg.contains("duration"))
-		{
-			return;
-		}
-
-		Matcher m = WAVE_COMPLETE_PATTERN.matcher(msg);
-		if (!m.matches())
-		{
-			return;
-		}
-
-		int wave = Integer.parseInt(m.group("wave"));
-		int duration = parseTimeString(m.group("duration"));
+		int wave = e.getWave();
+		int duration = e.getDurationTicks();
 		int cumulative = getCumulativeDuration();
 		int cumulativeWave = getCumulativeWaveDuration();
 
@@ -95,6 +74,11 @@ public class SplitsTracker implements PluginLifecycleComponent
 
 		Split newSplit = new Split(wave, duration, cumulative, cumulativeWave + duration);
 		splits.add(newSplit);
+		if (splits.size() == completedWaveDurations.length)
+		{
+			completedWaveDurations = Arrays.copyOf(completedWaveDurations, completedWaveDurations.length * 2);
+		}
+		completedWaveDurations[splits.size()] = newSplit.getCumulativeWaveDuration();
 		lastWaveStart = -1;
 
 		liveSplitManager.onSplit(newSplit);
@@ -134,16 +118,10 @@ public class SplitsTracker implements PluginLifecycleComponent
 		int currentWaveTime = getWaveDuration();
 		if (splits.isEmpty())
 		{
-			return getWaveDuration();
-		}
-
-		int cumulative = 0;
-		for (Split split : splits)
-		{
-			int waveDuration = split.getWaveDuration();
-			cumulative += waveDuration;
+			return currentWaveTime;
 		}
 
+		int cumulative = getCumulativeWaveDuration();
 		if (currentWaveTime != -1)
 		{
 			cumulative += currentWaveTime;
@@ -162,25 +140,34 @@ public class SplitsTracker implements PluginLifecycleComponent
 		return runStart == -1 ? -1 : client.getTickCount() - runStart;
 	}
 
+	/**
+	 * @return the total duration of all completed waves
+	 */
 	public int getCumulativeWaveDuration()
 	{
-		return splits.stream()
-			.mapToInt(Split::getWaveDuration)
-			.sum();
+		return completedWaveDurations[splits.size()];
 	}
 
-	public List<Split> getSplits()
+	/**
+	 * @return the total duration of the first waves completed waves
+	 */
+	public int getCumulativeWaveDuration(int waves)
 	{
-		return Collections.unmodifiableList(splits);
+		if (waves < 0 || waves > splits.size())
+		{
+			throw new IndexOutOfBoundsException("waves " + waves + " outside 0.." + splits.size());
+		}
+		return completedWaveDurations[waves];
 	}
 
-	private static int parseTimeString(String timeString)
+	public int getSplitCount()
 	{
-		String[] components = timeString.split(":");
+		return splits.size();
+	}
 
-		int mins = Integer.parseInt(components[0]);
-		float seconds = Float.parseFloat(components[1]);
-		return mins * 100 + (int) Math.ceil(seconds / 0.6f);
+	public List<Split> getSplits()
+	{
+		return Collections.unmodifiableList(splits);
 	}
 
 }
@@ -0,0 +1,160 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import com.duckblade.osrs.fortis.features.timetracking.Split;
+import com.duckblade.osrs.fortis.features.timetracking.SplitsTracker;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Appends every run to a {@link RunStore} in the RuneLite directory when leaving the colosseum,
+ * and loads the personal best and sum of best splits to compare against when entering it.
+ * The store is only touched from a background thread.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class RunHistory implements PluginLifecycleComponent
+{
+
+	private final PluginEventBus eventBus;
+	private final SplitsTracker splitsTracker;
+
+	@VisibleForTesting
+	File storeFile = new File(RuneLite.RUNELITE_DIR, "fortis-colosseum/runs.dat");
+
+	@VisibleForTesting
+	ExecutorService es;
+
+	// es only
+	private RunStore store;
+
+	private volatile SplitComparison comparison = SplitComparison.NONE;
+
+	@Override
+	public void startUp()
+	{
+		es = Executors.newSingleThreadExecutor(r ->
+		{
+			Thread t = Executors.defaultThreadFactory().newThread(r);
+			t.setDaemon(true);
+			t.setName("FortisColosseumRunHistory");
+			return t;
+		});
+		es.execute(this::openStore);
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+		es.execute(this::closeStore);
+		es.shutdown();
+		comparison = SplitComparison.NONE;
+	}
+
+	/**
+	 * @return the splits to compare the current run against, as of entering the colosseum
+	 */
+	public SplitComparison getComparison()
+	{
+		return comparison;
+	}
+
+	@Subscribe
+	public void onColosseumStateChanged(ColosseumStateChanged e)
+	{
+		if (e.getNewState().isInColosseum() && !e.getPreviousState().isInColosseum())
+		{
+			es.execute(this::loadComparison);
+		}
+		else if (!e.getNewState().isInColosseum() && e.getPreviousState().isInColosseum())
+		{
+			List<Split> splits = splitsTracker.getSplits();
+			if (!splits.isEmpty())
+			{
+				RunRecord record = RunRecord.of(System.currentTimeMillis(), e.getPreviousState().getModifiers(), splits);
+				es.execute(() -> append(record));
+			}
+		}
+	}
+
+	private void openStore()
+	{
+		File dir = storeFile.getParentFile();
+		if (!dir.mkdirs() && !dir.exists())
+		{
+			log.warn("Failed to create run history directory [{}]", dir.getAbsoluteFile());
+			return;
+		}
+
+		try
+		{
+			store = RunStore.open(storeFile.toPath());
+			log.debug("Opened run history with {} runs", store.size());
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to open run history [{}]", storeFile.getAbsoluteFile(), e);
+			return;
+		}
+
+		// in case the plugin was started inside the colosseum
+		loadComparison();
+	}
+
+	private void loadComparison()
+	{
+		comparison = store == null ? SplitComparison.NONE : SplitComparison.of(store);
+	}
+
+	private void closeStore()
+	{
+		if (store == null)
+		{
+			return;
+		}
+
+		try
+		{
+			store.close();
+		}
+		catch (IOException e)
+		{
+			log.debug("Failed to close run history", e);
+		}
+		store = null;
+	}
+
+	@VisibleForTesting
+	void append(RunRecord record)
+	{
+		if (store == null)
+		{
+			return;
+		}
+
+		try
+		{
+			store.append(record);
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to append to run history [{}]", storeFile.getAbsoluteFile(), e);
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import com.duckblade.osrs.fortis.features.timetracking.Split;
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * One run as kept in the {@link RunStore}, with -1 ticks for waves that weren't completed.
+ */
+@EqualsAndHashCode
+public final class RunRecord
+{
+
+	public static final int WAVES = 12;
+
+	@Getter
+	private final long timestamp;
+
+	/**
+	 * Same bitmask as {@link ModifierSet#getMask()}.
+	 */
+	@Getter
+	private final int modifierMask;
+
+	/**
+	 * Two bits of level per modifier, at 2 * {@link Modifier#getId()}.
+	 */
+	@Getter
+	private final int modifierLevels;
+
+	private final int[] waveTicks;
+	private final int[] cumulativeTicks;
+
+	RunRecord(long timestamp, int modifierMask, int modifierLevels, int[] waveTicks, int[] cumulativeTicks)
+	{
+		this.timestamp = timestamp;
+		this.modifierMask = modifierMask;
+		this.modifierLevels = modifierLevels;
+		this.waveTicks = waveTicks;
+		this.cumulativeTicks = cumulativeTicks;
+	}
+
+	public static RunRecord of(long timestamp, ModifierSet modifiers, List<Split> splits)
+	{
+		int levels = 0;
+		for (int i = 0; i < modifiers.size(); i++)
+		{
+			Modifier m = modifiers.get(i);
+			levels |= (modifiers.getLevel(m) & 3) << (2 * m.getId());
+		}
+
+		int[] waveTicks = new int[WAVES];
+		int[] cumulativeTicks = new int[WAVES];
+		Arrays.fill(waveTicks, -1);
+		Arrays.fill(cumulativeTicks, -1);
+		for (Split split : splits)
+		{
+			if (split.getWave() >= 1 && split.getWave() <= WAVES)
+			{
+				waveTicks[split.getWave() - 1] = split.getWaveDuration();
+				cumulativeTicks[split.getWave() - 1] = split.getCumulativeDuration();
+			}
+		}
+
+		return new RunRecord(timestamp, modifiers.getMask(), levels, waveTicks, cumulativeTicks);
+	}
+
+	public int getModifierLevel(Modifier modifier)
+	{
+		return modifierLevels >>> (2 * modifier.getId()) & 3;
+	}
+
+	/**
+	 * @param wave 1 to {@link #WAVES}
+	 * @return how long the wave itself took, or -1 if it wasn't completed
+	 */
+	public int getWaveTicks(int wave)
+	{
+		return waveTicks[wave - 1];
+	}
+
+	/**
+	 * @param wave 1 to {@link #WAVES}
+	 * @return the time since the start of wave 1 when the wave was completed, or -1 if it wasn't
+	 */
+	public int getCumulativeTicks(int wave)
+	{
+		return cumulativeTicks[wave - 1];
+	}
+
+	public boolean isComplete()
+	{
+		for (int ticks : waveTicks)
+		{
+			if (ticks < 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the sum of every wave's time, as the game reports for a completed run, or -1 if incomplete
+	 */
+	public int getTotalWaveTicks()
+	{
+		int total = 0;
+		for (int ticks : waveTicks)
+		{
+			if (ticks < 0)
+			{
+				return -1;
+			}
+			total += ticks;
+		}
+		return total;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "RunRecord(timestamp=" + timestamp + ", modifierMask=" + modifierMask +
+			", waveTicks=" + Arrays.toString(waveTicks) + ", cumulativeTicks=" + Arrays.toString(cumulativeTicks) + ")";
+	}
+
+}
@@ -0,0 +1,296 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only file of fixed-size {@link RunRecord}s behind a small header,
+ * which also indexes the best time for each wave and the personal best run.
+ * The index is updated on every append, so opening the store only reads the header.
+ * <p>
+ * A record is written before the header that counts it,
+ * so a crash mid-append leaves the store as it was before the append.
+ */
+public final class RunStore implements Closeable
+{
+
+	private static final int MAGIC = 0x46435253; // FCRS
+	private static final int VERSION = 1;
+
+	private static final int WAVES = RunRecord.WAVES;
+
+	// magic, version, record count, pb record index, best wave ticks, pb wave ticks
+	static final int HEADER_SIZE = 4 * Integer.BYTES + 2 * WAVES * Integer.BYTES;
+
+	// timestamp, modifier mask, modifier levels, wave ticks, cumulative ticks
+	static final int RECORD_SIZE = Long.BYTES + 2 * Integer.BYTES + 2 * WAVES * Integer.BYTES;
+
+	private final FileChannel channel;
+	private final ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE);
+	private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+
+	private int count;
+	private int personalBestIndex = -1;
+	private final int[] bestWaveTicks = new int[WAVES];
+	private final int[] personalBestWaveTicks = new int[WAVES];
+
+	private RunStore(FileChannel channel)
+	{
+		this.channel = channel;
+		Arrays.fill(bestWaveTicks, -1);
+		Arrays.fill(personalBestWaveTicks, -1);
+	}
+
+	/**
+	 * Opens the store at path, creating it if it doesn't exist.
+	 *
+	 * @throws IOException if the file can't be opened or isn't a run store
+	 */
+	public static RunStore open(Path path) throws IOException
+	{
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		RunStore store = new RunStore(channel);
+		try
+		{
+			if (channel.size() == 0)
+			{
+				store.writeHeader();
+			}
+			else
+			{
+				store.readHeader();
+			}
+		}
+		catch (IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+		return store;
+	}
+
+	public synchronized int size()
+	{
+		return count;
+	}
+
+	public synchronized void append(RunRecord record) throws IOException
+	{
+		recordBuffer.clear();
+		recordBuffer.putLong(record.getTimestamp());
+		recordBuffer.putInt(record.getModifierMask());
+		recordBuffer.putInt(record.getModifierLevels());
+		for (int wave = 1; wave <= WAVES; wave++)
+		{
+			recordBuffer.putInt(record.getWaveTicks(wave));
+		}
+		for (int wave = 1; wave <= WAVES; wave++)
+		{
+			recordBuffer.putInt(record.getCumulativeTicks(wave));
+		}
+		recordBuffer.flip();
+		writeFully(recordBuffer, recordOffset(count));
+		channel.force(false);
+
+		for (int wave = 1; wave <= WAVES; wave++)
+		{
+			int ticks = record.getWaveTicks(wave);
+			if (ticks >= 0 && (bestWaveTicks[wave - 1] < 0 || ticks < bestWaveTicks[wave - 1]))
+			{
+				bestWaveTicks[wave - 1] = ticks;
+			}
+		}
+
+		int total = record.getTotalWaveTicks();
+		if (total >= 0 && (personalBestIndex == -1 || total < getPersonalBestTicks()))
+		{
+			personalBestIndex = count;
+			for (int wave = 1; wave <= WAVES; wave++)
+			{
+				personalBestWaveTicks[wave - 1] = record.getWaveTicks(wave);
+			}
+		}
+
+		count++;
+		writeHeader();
+	}
+
+	public synchronized RunRecord read(int index) throws IOException
+	{
+		if (index < 0 || index >= count)
+		{
+			throw new IndexOutOfBoundsException("record " + index + " outside 0.." + (count - 1));
+		}
+
+		recordBuffer.clear();
+		readFully(recordBuffer, recordOffset(index));
+		recordBuffer.flip();
+
+		long timestamp = recordBuffer.getLong();
+		int mask = recordBuffer.getInt();
+		int levels = recordBuffer.getInt();
+		int[] waveTicks = new int[WAVES];
+		int[] cumulativeTicks = new int[WAVES];
+		for (int i = 0; i < WAVES; i++)
+		{
+			waveTicks[i] = recordBuffer.getInt();
+		}
+		for (int i = 0; i < WAVES; i++)
+		{
+			cumulativeTicks[i] = recordBuffer.getInt();
+		}
+		return new RunRecord(timestamp, mask, levels, waveTicks, cumulativeTicks);
+	}
+
+	/**
+	 * @param wave 1 to 12
+	 * @return the fastest this wave has been completed in any run, or -1 if it never has
+	 */
+	public synchronized int getBestWaveTicks(int wave)
+	{
+		return bestWaveTicks[wave - 1];
+	}
+
+	/**
+	 * @param wave 1 to 12
+	 * @return how long this wave took in the personal best run, or -1 if no run has been completed
+	 */
+	public synchronized int getPersonalBestWaveTicks(int wave)
+	{
+		return personalBestWaveTicks[wave - 1];
+	}
+
+	/**
+	 * @return the index of the completed run with the lowest total wave time, or -1 if none
+	 */
+	public synchronized int getPersonalBestIndex()
+	{
+		return personalBestIndex;
+	}
+
+	/**
+	 * @return the personal best's total wave time, or -1 if no run has been completed
+	 */
+	public synchronized int getPersonalBestTicks()
+	{
+		return personalBestIndex == -1 ? -1 : sum(personalBestWaveTicks);
+	}
+
+	/**
+	 * @return the total of every wave's best time, or -1 unless every wave has been completed at least once
+	 */
+	public synchronized int getSumOfBest()
+	{
+		return sum(bestWaveTicks);
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		channel.close();
+	}
+
+	private static int sum(int[] ticks)
+	{
+		int total = 0;
+		for (int t : ticks)
+		{
+			if (t < 0)
+			{
+				return -1;
+			}
+			total += t;
+		}
+		return total;
+	}
+
+	private static long recordOffset(int index)
+	{
+		return HEADER_SIZE + (long) index * RECORD_SIZE;
+	}
+
+	private void readHeader() throws IOException
+	{
+		if (channel.size() < HEADER_SIZE)
+		{
+			throw new IOException("Run store is truncated");
+		}
+
+		headerBuffer.clear();
+		readFully(headerBuffer, 0);
+		headerBuffer.flip();
+
+		if (headerBuffer.getInt() != MAGIC)
+		{
+			throw new IOException("Not a run store");
+		}
+		int version = headerBuffer.getInt();
+		if (version != VERSION)
+		{
+			throw new IOException("Unsupported run store version " + version);
+		}
+
+		count = headerBuffer.getInt();
+		personalBestIndex = headerBuffer.getInt();
+		for (int i = 0; i < WAVES; i++)
+		{
+			bestWaveTicks[i] = headerBuffer.getInt();
+		}
+		for (int i = 0; i < WAVES; i++)
+		{
+			personalBestWaveTicks[i] = headerBuffer.getInt();
+		}
+
+		if (count < 0 || personalBestIndex >= count || channel.size() < recordOffset(count))
+		{
+			throw new IOException("Run store header doesn't match its records");
+		}
+	}
+
+	private void writeHeader() throws IOException
+	{
+		headerBuffer.clear();
+		headerBuffer.putInt(MAGIC);
+		headerBuffer.putInt(VERSION);
+		headerBuffer.putInt(count);
+		headerBuffer.putInt(personalBestIndex);
+		for (int ticks : bestWaveTicks)
+		{
+			headerBuffer.putInt(ticks);
+		}
+		for (int ticks : personalBestWaveTicks)
+		{
+			headerBuffer.putInt(ticks);
+		}
+		headerBuffer.flip();
+		writeFully(headerBuffer, 0);
+		channel.force(false);
+	}
+
+	private void writeFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private void readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			int read = channel.read(buffer, position);
+			if (read < 0)
+			{
+				throw new IOException("Unexpected end of run store");
+			}
+			position += read;
+		}
+	}
+
+}
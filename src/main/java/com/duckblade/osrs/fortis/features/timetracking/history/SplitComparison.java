@@ -0,0 +1,66 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative wave times to compare a run against, loaded from a {@link RunStore} once per run
+ * so the splits overlay only ever needs a subtraction. Immutable.
+ */
+public final class SplitComparison
+{
+
+	public static final SplitComparison NONE = new SplitComparison(missing(), missing());
+
+	// [wave] -> total wave time through that wave, or -1 if unknown. index 0 is always 0.
+	private final int[] personalBest;
+	private final int[] sumOfBest;
+
+	private SplitComparison(int[] personalBest, int[] sumOfBest)
+	{
+		this.personalBest = personalBest;
+		this.sumOfBest = sumOfBest;
+	}
+
+	public static SplitComparison of(RunStore store)
+	{
+		int[] personalBest = new int[RunRecord.WAVES + 1];
+		int[] sumOfBest = new int[RunRecord.WAVES + 1];
+		for (int wave = 1; wave <= RunRecord.WAVES; wave++)
+		{
+			personalBest[wave] = accumulate(personalBest[wave - 1], store.getPersonalBestWaveTicks(wave));
+			sumOfBest[wave] = accumulate(sumOfBest[wave - 1], store.getBestWaveTicks(wave));
+		}
+		return new SplitComparison(personalBest, sumOfBest);
+	}
+
+	/**
+	 * @param wave 1 to 12
+	 * @return the personal best run's total wave time at the end of this wave, or -1 if no run has been completed
+	 */
+	public int getPersonalBest(int wave)
+	{
+		return personalBest[wave];
+	}
+
+	/**
+	 * @param wave 1 to 12
+	 * @return the total of the best times of every wave up to and including this one, or -1 if any of them were never completed
+	 */
+	public int getSumOfBest(int wave)
+	{
+		return sumOfBest[wave];
+	}
+
+	private static int accumulate(int previous, int ticks)
+	{
+		return previous == -1 || ticks == -1 ? -1 : previous + ticks;
+	}
+
+	private static int[] missing()
+	{
+		int[] cumulative = new int[RunRecord.WAVES + 1];
+		Arrays.fill(cumulative, 1, cumulative.length, -1);
+		return cumulative;
+	}
+
+}
@@ -2,15 +2,14 @@ package com.duckblade.osrs.fortis.features.timetracking.livesplit;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
 import com.duckblade.osrs.fortis.features.timetracking.Split;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
-import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
 import com.duckblade.osrs.fortis.util.TimerMode;
 import java.util.Objects;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 
@@ -19,18 +18,12 @@ import net.runelite.client.events.ConfigChanged;
 public class LiveSplitManager implements PluginLifecycleComponent
 {
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final FortisColosseumConfig config;
 	private final LiveSplitWriter ls;
 
 	private boolean active;
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.splitsLivesplitPort() != 0;
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -1,6 +1,7 @@
 package com.duckblade.osrs.fortis.features.waves;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
 import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
@@ -11,8 +12,6 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import net.runelite.api.Client;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.OverlayPanel;
@@ -29,37 +28,27 @@ public class WavesOverlay extends OverlayPanel implements PluginLifecycleCompone
 	private static final Color REINFORCEMENT_COLOR = ColorScheme.GRAND_EXCHANGE_ALCH;
 	private static final Color MODIFIER_COLOR = new Color(228, 156, 248);
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final OverlayManager overlayManager;
-	private final Client client;
 	private final FortisColosseumConfig config;
 	private final ColosseumStateTracker stateTracker;
 
 	@Inject
 	private WavesOverlay(
-		EventBus eventBus,
+		PluginEventBus eventBus,
 		OverlayManager overlayManager,
-		Client client,
 		FortisColosseumConfig config,
 		ColosseumStateTracker stateTracker
 	)
 	{
 		this.eventBus = eventBus;
 		this.overlayManager = overlayManager;
-		this.client = client;
 		this.config = config;
 		this.stateTracker = stateTracker;
 
 		setPosition(OverlayPosition.TOP_LEFT);
 	}
 
-	@Override
-	public boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return config.wavesOverlayMode() != WaveOverlayMode.OFF
-			&& colosseumState.isInColosseum();
-	}
-
 	@Override
 	public void startUp()
 	{
@@ -90,7 +79,7 @@ public class WavesOverlay extends OverlayPanel implements PluginLifecycleCompone
 		if (mode.showCurrent())
 		{
 			addTitleLine(state.getWaveNumber());
-			WaveSpawns spawns = state.getWaveSpawns(client);
+			WaveSpawns spawns = state.getWaveSpawns();
 			spawns.getSpawns().forEach(s -> addSpawnLine(nameMode, s, SPAWN_COLOR));
 			spawns.getReinforcements().forEach(s -> addSpawnLine(nameMode, s, REINFORCEMENT_COLOR));
 			if (config.wavesOverlayShowModifierSpawns())
@@ -108,7 +97,7 @@ public class WavesOverlay extends OverlayPanel implements PluginLifecycleCompone
 		if (mode.showNext() && state.getWaveNumber() != 12)
 		{
 			addTitleLine(state.getWaveNumber() + 1);
-			WaveSpawns nextSpawns = state.getNextWaveSpawns(client);
+			WaveSpawns nextSpawns = state.getNextWaveSpawns();
 			nextSpawns.getSpawns().forEach(s -> addSpawnLine(nameMode, s, SPAWN_COLOR));
 			nextSpawns.getReinforcements().forEach(s -> addSpawnLine(nameMode, s, REINFORCEMENT_COLOR));
 			if (config.wavesOverlayShowModifierSpawns())
@@ -3,15 +3,18 @@ package com.duckblade.osrs.fortis.module;
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
 import com.duckblade.osrs.fortis.util.ColosseumState;
 import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
+import com.duckblade.osrs.fortis.util.ColosseumStateField;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.util.GameEventManager;
@@ -28,27 +31,46 @@ import net.runelite.client.util.GameEventManager;
 public class ComponentManager
 {
 
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
 	private final GameEventManager gameEventManager;
 	private final FortisColosseumConfig config;
 	private final ColosseumStateTracker colosseumStateTracker;
-	private final Set<PluginLifecycleComponent> components;
+	private final ComponentTimings timings;
+	private final List<ComponentRegistration> registrations;
 
-	private final Map<PluginLifecycleComponent, Boolean> states = new HashMap<>();
+	// indexed like registrations, instances are only created the first time a component is enabled
+	private PluginLifecycleComponent[] instances;
+	private boolean[] states;
+
+	// bits are indices into registrations,
+	// so revalidating a subset still starts components up in their declared order
+	private final Map<String, BitSet> configDependents = new HashMap<>();
+	private final Map<ColosseumStateField, BitSet> stateDependents = new EnumMap<>(ColosseumStateField.class);
+	private final BitSet anyConfigDependents = new BitSet();
+	private final BitSet anyStateDependents = new BitSet();
 
 	public void onPluginStart()
 	{
 		eventBus.register(this);
-		components.forEach(c -> states.put(c, false));
-		revalidateComponentStates();
+		if (instances == null)
+		{
+			instances = new PluginLifecycleComponent[registrations.size()];
+		}
+		states = new boolean[registrations.size()];
+		buildDependencyIndex();
+
+		BitSet all = new BitSet(registrations.size());
+		all.set(0, registrations.size());
+		revalidateComponentStates(all);
 	}
 
 	public void onPluginStop()
 	{
 		eventBus.unregister(this);
-		components.stream()
-			.filter(states::get)
-			.forEach(this::tryShutDown);
+		for (int i = 0; i < states.length; i++)
+		{
+			tryShutDown(i);
+		}
 	}
 
 	@Subscribe
@@ -59,69 +81,131 @@ public class ComponentManager
 			return;
 		}
 
-		revalidateComponentStates();
+		BitSet affected = (BitSet) anyConfigDependents.clone();
+		BitSet dependents = configDependents.get(e.getKey());
+		if (dependents != null)
+		{
+			affected.or(dependents);
+		}
+		revalidateComponentStates(affected);
 	}
 
 	@Subscribe
 	public void onColosseumStateChanged(ColosseumStateChanged e)
 	{
-		revalidateComponentStates();
+		BitSet affected = (BitSet) anyStateDependents.clone();
+		for (ColosseumStateField field : ColosseumStateField.changedBetween(e.getPreviousState(), e.getNewState()))
+		{
+			BitSet dependents = stateDependents.get(field);
+			if (dependents != null)
+			{
+				affected.or(dependents);
+			}
+		}
+		revalidateComponentStates(affected);
 	}
 
-	private void revalidateComponentStates()
+	private void buildDependencyIndex()
 	{
-		ColosseumState colosseumState = colosseumStateTracker.getCurrentState();
-		components.forEach(c ->
+		configDependents.clear();
+		stateDependents.clear();
+		anyConfigDependents.clear();
+		anyStateDependents.clear();
+
+		for (int i = 0; i < registrations.size(); i++)
 		{
-			boolean shouldBeEnabled = c.isEnabled(config, colosseumState);
-			boolean isEnabled = states.get(c);
-			if (shouldBeEnabled == isEnabled)
+			ComponentRegistration registration = registrations.get(i);
+			Set<String> configKeys = registration.getConfigDependencies();
+			if (configKeys == null)
+			{
+				anyConfigDependents.set(i);
+			}
+			else
 			{
-				return;
+				for (String key : configKeys)
+				{
+					configDependents.computeIfAbsent(key, k -> new BitSet()).set(i);
+				}
 			}
 
-			if (shouldBeEnabled)
+			Set<ColosseumStateField> stateFields = registration.getStateDependencies();
+			if (stateFields == null)
 			{
-				tryStartUp(c);
+				anyStateDependents.set(i);
 			}
 			else
 			{
-				tryShutDown(c);
+				for (ColosseumStateField field : stateFields)
+				{
+					stateDependents.computeIfAbsent(field, k -> new BitSet()).set(i);
+				}
 			}
-		});
+		}
 	}
 
-	private void tryStartUp(PluginLifecycleComponent component)
+	private void revalidateComponentStates(BitSet affected)
 	{
-		if (states.get(component))
+		ColosseumState colosseumState = colosseumStateTracker.getCurrentState();
+		for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1))
 		{
-			return;
+			boolean shouldBeEnabled = registrations.get(i).getEnabled().test(config, colosseumState);
+			if (shouldBeEnabled == states[i])
+			{
+				continue;
+			}
+
+			if (shouldBeEnabled)
+			{
+				tryStartUp(i);
+			}
+			else
+			{
+				tryShutDown(i);
+			}
 		}
+	}
 
-		if (log.isDebugEnabled())
+	private void tryStartUp(int ix)
+	{
+		if (states[ix])
 		{
-			log.debug("Enabling FortisColosseum plugin component [{}]", component.getClass().getName());
+			return;
 		}
 
+		PluginLifecycleComponent component = instances[ix];
 		try
 		{
+			long start = System.nanoTime();
+			if (component == null)
+			{
+				component = instances[ix] = registrations.get(ix).getProvider().get();
+			}
+
+			if (log.isDebugEnabled())
+			{
+				log.debug("Enabling FortisColosseum plugin component [{}]", component.getClass().getName());
+			}
+
 			component.startUp();
+			long started = System.nanoTime();
 			gameEventManager.simulateGameEvents(component);
-			states.put(component, true);
+			timings.recordStartUp(component, started - start, System.nanoTime() - started);
+			states[ix] = true;
 		}
 		catch (Exception e)
 		{
-			log.error("Failed to start FortisColosseum plugin component [{}]", component.getClass().getName(), e);
+			log.error("Failed to start FortisColosseum plugin component [{}]", component == null ? ix : component.getClass().getName(), e);
 		}
 	}
 
-	private void tryShutDown(PluginLifecycleComponent component)
+	private void tryShutDown(int ix)
 	{
-		if (!states.get(component))
+		if (!states[ix])
 		{
 			return;
 		}
 
+		PluginLifecycleComponent component = instances[ix];
 		if (log.isDebugEnabled())
 		{
 			log.debug("Disabling FortisColosseum plugin component [{}]", component.getClass().getName());
@@ -129,7 +213,9 @@ public class ComponentManager
 
 		try
 		{
+			long start = System.nanoTime();
 			component.shutDown();
+			timings.recordShutDown(component, System.nanoTime() - start);
 		}
 		catch (Exception e)
 		{
@@ -137,7 +223,7 @@ public class ComponentManager
 		}
 		finally
 		{
-			states.put(component, false);
+			states[ix] = false;
 		}
 	}
 
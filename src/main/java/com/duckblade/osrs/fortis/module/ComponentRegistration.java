@@ -0,0 +1,79 @@
+package com.duckblade.osrs.fortis.module;
+
+import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.util.ColosseumState;
+import com.duckblade.osrs.fortis.util.ColosseumStateField;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import javax.inject.Provider;
+import lombok.Value;
+
+/**
+ * A component along with the condition under which it should be running.
+ * The condition lives here rather than on the component
+ * so that the component is only constructed the first time it is enabled.
+ */
+@Value
+public class ComponentRegistration
+{
+
+	Provider<? extends PluginLifecycleComponent> provider;
+
+	BiPredicate<FortisColosseumConfig, ColosseumState> enabled;
+
+	/**
+	 * The config keys read by {@link #enabled}, or null to re-evaluate on every config change.
+	 */
+	Set<String> configDependencies;
+
+	/**
+	 * The state fields read by {@link #enabled}, or null to re-evaluate on every state change.
+	 */
+	Set<ColosseumStateField> stateDependencies;
+
+	public static ComponentRegistration always(Provider<? extends PluginLifecycleComponent> provider)
+	{
+		return new ComponentRegistration(provider, (config, state) -> true, ImmutableSet.of(), ImmutableSet.of());
+	}
+
+	public static ComponentRegistration inColosseum(Provider<? extends PluginLifecycleComponent> provider)
+	{
+		return new ComponentRegistration(
+			provider,
+			(config, state) -> state.isInColosseum(),
+			ImmutableSet.of(),
+			ImmutableSet.of(ColosseumStateField.IN_COLOSSEUM)
+		);
+	}
+
+	public static ComponentRegistration whenConfigured(
+		Provider<? extends PluginLifecycleComponent> provider,
+		Predicate<FortisColosseumConfig> configured,
+		String... configKeys
+	)
+	{
+		return new ComponentRegistration(
+			provider,
+			(config, state) -> configured.test(config),
+			ImmutableSet.copyOf(configKeys),
+			ImmutableSet.of()
+		);
+	}
+
+	public static ComponentRegistration inColosseumWhenConfigured(
+		Provider<? extends PluginLifecycleComponent> provider,
+		Predicate<FortisColosseumConfig> configured,
+		String... configKeys
+	)
+	{
+		return new ComponentRegistration(
+			provider,
+			(config, state) -> state.isInColosseum() && configured.test(config),
+			ImmutableSet.copyOf(configKeys),
+			ImmutableSet.of(ColosseumStateField.IN_COLOSSEUM)
+		);
+	}
+
+}
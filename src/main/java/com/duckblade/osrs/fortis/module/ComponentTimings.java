@@ -0,0 +1,109 @@
+package com.duckblade.osrs.fortis.module;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Singleton;
+import lombok.Value;
+
+/**
+ * Rolling start/stop timings for each plugin component, recorded by the {@link ComponentManager}.
+ * Recorded on the client thread, but can be read from anywhere.
+ */
+@Singleton
+public class ComponentTimings
+{
+
+	static final int WINDOW = 16;
+
+	private static final int START_UP = 0;
+	private static final int REPLAY = 1;
+	private static final int SHUT_DOWN = 2;
+
+	@Value
+	public static class Timing
+	{
+
+		String component;
+		Stats startUp; // includes construction the first time the component is enabled
+		Stats replay;
+		Stats shutDown;
+
+	}
+
+	@Value
+	public static class Stats
+	{
+
+		int count;
+		long lastNanos;
+		long meanNanos; // over the last WINDOW samples
+		long maxNanos;
+
+	}
+
+	private final Map<String, Recorder[]> recorders = new LinkedHashMap<>();
+
+	public synchronized void recordStartUp(PluginLifecycleComponent component, long startUpNanos, long replayNanos)
+	{
+		Recorder[] r = recordersFor(component);
+		r[START_UP].record(startUpNanos);
+		r[REPLAY].record(replayNanos);
+	}
+
+	public synchronized void recordShutDown(PluginLifecycleComponent component, long nanos)
+	{
+		recordersFor(component)[SHUT_DOWN].record(nanos);
+	}
+
+	public synchronized List<Timing> snapshot()
+	{
+		List<Timing> timings = new ArrayList<>(recorders.size());
+		recorders.forEach((name, r) -> timings.add(new Timing(name, r[START_UP].toStats(), r[REPLAY].toStats(), r[SHUT_DOWN].toStats())));
+		return timings;
+	}
+
+	public synchronized void reset()
+	{
+		recorders.clear();
+	}
+
+	private Recorder[] recordersFor(PluginLifecycleComponent component)
+	{
+		return recorders.computeIfAbsent(
+			component.getClass().getSimpleName(),
+			k -> new Recorder[]{new Recorder(), new Recorder(), new Recorder()}
+		);
+	}
+
+	private static class Recorder
+	{
+
+		private final long[] window = new long[WINDOW];
+		private int count;
+		private long last;
+		private long max;
+
+		void record(long nanos)
+		{
+			window[count % WINDOW] = nanos;
+			count++;
+			last = nanos;
+			max = Math.max(max, nanos);
+		}
+
+		Stats toStats()
+		{
+			int samples = Math.min(count, WINDOW);
+			long sum = 0;
+			for (int i = 0; i < samples; i++)
+			{
+				sum += window[i];
+			}
+			return new Stats(count, last, samples == 0 ? 0 : sum / samples, max);
+		}
+
+	}
+
+}
@@ -3,23 +3,38 @@ package com.duckblade.osrs.fortis.module;
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
 import com.duckblade.osrs.fortis.features.LeftClickBankAll;
 import com.duckblade.osrs.fortis.features.loot.LootHider;
+import com.duckblade.osrs.fortis.features.loot.LootHiderMode;
 import com.duckblade.osrs.fortis.features.loot.LootTotalDisplay;
+import com.duckblade.osrs.fortis.features.loot.LootTotalMode;
+import com.duckblade.osrs.fortis.features.loslinks.LayoutCache;
 import com.duckblade.osrs.fortis.features.loslinks.LosLinks;
 import com.duckblade.osrs.fortis.features.loslinks.LosLinksPanel;
+import com.duckblade.osrs.fortis.features.loslinks.MovementPredictor;
+import com.duckblade.osrs.fortis.features.loslinks.SafeTileOverlay;
+import com.duckblade.osrs.fortis.features.loslinks.WaveSolver;
 import com.duckblade.osrs.fortis.features.modifiers.ModifierOverlay;
 import com.duckblade.osrs.fortis.features.modifiers.ModifierSelectNamesManager;
 import com.duckblade.osrs.fortis.features.modifiers.VolatilityReminder;
 import com.duckblade.osrs.fortis.features.timetracking.SplitsFileWriter;
 import com.duckblade.osrs.fortis.features.timetracking.SplitsOverlay;
+import com.duckblade.osrs.fortis.features.timetracking.SplitsOverlayMode;
 import com.duckblade.osrs.fortis.features.timetracking.SplitsTracker;
+import com.duckblade.osrs.fortis.features.timetracking.history.RunHistory;
 import com.duckblade.osrs.fortis.features.timetracking.livesplit.LiveSplitManager;
+import com.duckblade.osrs.fortis.features.waves.WaveOverlayMode;
 import com.duckblade.osrs.fortis.features.waves.WavesOverlay;
+import com.duckblade.osrs.fortis.util.ColosseumStateField;
 import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.RegionTracker;
+import com.duckblade.osrs.fortis.util.chat.ChatDecoder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
-import java.util.Set;
+import java.util.List;
+import javax.inject.Provider;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
 
@@ -34,38 +49,128 @@ public class FortisColosseumModule extends AbstractModule
 	}
 
 	@Provides
-	Set<PluginLifecycleComponent> lifecycleComponents(
-		ColosseumStateTracker colosseumStateTracker,
-		LeftClickBankAll leftClickBankAll,
-		LiveSplitManager liveSplitManager,
-		LootHider lootHider,
-		LootTotalDisplay lootTotalDisplay,
-		LosLinks losLinks,
-		LosLinksPanel losLinksPanel,
-		ModifierOverlay modifierOverlay,
-		ModifierSelectNamesManager modifierSelectNamesManager,
-		SplitsFileWriter splitsFileWriter,
-		SplitsOverlay splitsOverlay,
-		SplitsTracker splitsTracker,
-		VolatilityReminder volatilityReminder,
-		WavesOverlay wavesOverlay
+	List<ComponentRegistration> lifecycleComponents(
+		Provider<RegionTracker> regionTracker,
+		Provider<ColosseumStateTracker> colosseumStateTracker,
+		Provider<ChatDecoder> chatDecoder,
+		Provider<LayoutCache> layoutCache,
+		Provider<LeftClickBankAll> leftClickBankAll,
+		Provider<LiveSplitManager> liveSplitManager,
+		Provider<LootHider> lootHider,
+		Provider<LootTotalDisplay> lootTotalDisplay,
+		Provider<LosLinks> losLinks,
+		Provider<LosLinksPanel> losLinksPanel,
+		Provider<ModifierOverlay> modifierOverlay,
+		Provider<ModifierSelectNamesManager> modifierSelectNamesManager,
+		Provider<RunHistory> runHistory,
+		Provider<MovementPredictor> movementPredictor,
+		Provider<SafeTileOverlay> safeTileOverlay,
+		Provider<SplitsFileWriter> splitsFileWriter,
+		Provider<SplitsOverlay> splitsOverlay,
+		Provider<SplitsTracker> splitsTracker,
+		Provider<VolatilityReminder> volatilityReminder,
+		Provider<WaveSolver> waveSolver,
+		Provider<WavesOverlay> wavesOverlay
 	)
 	{
-		return ImmutableSet.of(
-			colosseumStateTracker,
-			leftClickBankAll,
-			liveSplitManager,
-			lootHider,
-			lootTotalDisplay,
-			losLinks,
-			losLinksPanel,
-			modifierOverlay,
-			modifierSelectNamesManager,
-			splitsFileWriter,
-			splitsOverlay,
-			splitsTracker,
-			volatilityReminder,
-			wavesOverlay
+		// components are only constructed once their condition first passes, in this order
+		return ImmutableList.of(
+			ComponentRegistration.always(regionTracker),
+			ComponentRegistration.always(colosseumStateTracker),
+			ComponentRegistration.inColosseum(chatDecoder),
+			ComponentRegistration.inColosseumWhenConfigured(
+				leftClickBankAll,
+				FortisColosseumConfig::leftClickBankAll,
+				FortisColosseumConfig.KEY_LEFT_CLICK_BANK_ALL
+			),
+			ComponentRegistration.whenConfigured(
+				liveSplitManager,
+				c -> c.splitsLivesplitPort() != 0,
+				FortisColosseumConfig.KEY_LIVESPLIT_PORT
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				lootHider,
+				c -> c.lootInterfaceHidePreviousWaves() != LootHiderMode.OFF || c.lootInterfaceHideNextWave() != LootHiderMode.OFF,
+				FortisColosseumConfig.KEY_LOOT_INTERFACE_HIDE_PREVIOUS_WAVES,
+				FortisColosseumConfig.KEY_LOOT_INTERFACE_HIDE_NEXT_WAVE
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				lootTotalDisplay,
+				c -> c.lootInterfaceShowTotal() != LootTotalMode.OFF,
+				FortisColosseumConfig.KEY_LOOT_INTERFACE_SHOW_TOTAL
+			),
+			// also tracks npcs for the safe tile overlay
+			ComponentRegistration.inColosseumWhenConfigured(
+				losLinks,
+				c -> c.losLinksEnabled() || c.safeTilesEnabled(),
+				FortisColosseumConfig.KEY_LOS_LINKS_ENABLED,
+				FortisColosseumConfig.KEY_SAFE_TILES_ENABLED
+			),
+			ComponentRegistration.whenConfigured(
+				losLinksPanel,
+				FortisColosseumConfig::losLinksEnabled,
+				FortisColosseumConfig.KEY_LOS_LINKS_ENABLED
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				layoutCache,
+				FortisColosseumConfig::losLinksEnabled,
+				FortisColosseumConfig.KEY_LOS_LINKS_ENABLED
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				waveSolver,
+				c -> c.losLinksEnabled() && c.losLinksSolverTicks() > 0,
+				FortisColosseumConfig.KEY_LOS_LINKS_ENABLED,
+				FortisColosseumConfig.KEY_LOS_LINKS_SOLVER_TICKS
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				modifierOverlay,
+				FortisColosseumConfig::modifiersOverlayEnabled,
+				FortisColosseumConfig.KEY_MODIFIERS_OVERLAY_ENABLED
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				modifierSelectNamesManager,
+				FortisColosseumConfig::modifiersNamesOnSelectWidget,
+				FortisColosseumConfig.KEY_MODIFIERS_NAMES_ON_SELECT_WIDGET
+			),
+			ComponentRegistration.whenConfigured(
+				runHistory,
+				FortisColosseumConfig::splitsRecordHistory,
+				FortisColosseumConfig.KEY_SPLITS_RECORD_HISTORY
+			),
+			ComponentRegistration.whenConfigured(
+				splitsFileWriter,
+				c -> c.splitsFileCondition() != SplitsFileWriter.WriteCondition.NEVER,
+				FortisColosseumConfig.KEY_SPLITS_FILE_CONDITION
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				movementPredictor,
+				c -> c.safeTilesEnabled() && c.safeTilesPredictionTicks() > 0,
+				FortisColosseumConfig.KEY_SAFE_TILES_ENABLED,
+				FortisColosseumConfig.KEY_SAFE_TILES_PREDICTION_TICKS
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				safeTileOverlay,
+				FortisColosseumConfig::safeTilesEnabled,
+				FortisColosseumConfig.KEY_SAFE_TILES_ENABLED
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				splitsOverlay,
+				c -> c.splitsOverlayMode() != SplitsOverlayMode.OFF,
+				FortisColosseumConfig.KEY_SPLITS_OVERLAY_MODE
+			),
+			// always track, conditionally display
+			ComponentRegistration.inColosseum(splitsTracker),
+			new ComponentRegistration(
+				volatilityReminder,
+				(c, state) -> c.volatilityReminder() && state.isInColosseum() && state.getModifiers().has(Modifier.VOLATILITY),
+				ImmutableSet.of(FortisColosseumConfig.KEY_VOLATILITY_REMINDER),
+				ImmutableSet.of(ColosseumStateField.IN_COLOSSEUM, ColosseumStateField.MODIFIERS)
+			),
+			ComponentRegistration.inColosseumWhenConfigured(
+				wavesOverlay,
+				c -> c.wavesOverlayMode() != WaveOverlayMode.OFF,
+				FortisColosseumConfig.KEY_WAVES_OVERLAY_MODE
+			)
 		);
 	}
 
@@ -0,0 +1,113 @@
+package com.duckblade.osrs.fortis.module;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Call count and latency histogram for a single event handler.
+ * Latencies are bucketed by power of two, so percentiles are accurate to within 2x,
+ * which is plenty to tell a 5us handler from a 5ms one.
+ */
+public class HandlerProfile
+{
+
+	private static final int BUCKETS = 64;
+
+	@Value
+	public static class Snapshot
+	{
+
+		String eventType;
+		String handler;
+		long count;
+		long totalNanos;
+		long p50Nanos;
+		long p99Nanos;
+		long maxNanos;
+
+	}
+
+	@Getter
+	private final String eventType;
+
+	@Getter
+	private final String handler;
+
+	private final long[] buckets = new long[BUCKETS];
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+
+	HandlerProfile(String eventType, String handler)
+	{
+		this.eventType = eventType;
+		this.handler = handler;
+	}
+
+	synchronized void record(long nanos)
+	{
+		buckets[bucket(nanos)]++;
+		count++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	synchronized void reset()
+	{
+		Arrays.fill(buckets, 0);
+		count = 0;
+		totalNanos = 0;
+		maxNanos = 0;
+	}
+
+	synchronized Snapshot snapshot()
+	{
+		return new Snapshot(eventType, handler, count, totalNanos, percentile(0.5), percentile(0.99), maxNanos);
+	}
+
+	/**
+	 * Adds the other profile's samples into this one, for totals across handlers.
+	 */
+	synchronized void merge(HandlerProfile other)
+	{
+		synchronized (other)
+		{
+			for (int i = 0; i < BUCKETS; i++)
+			{
+				buckets[i] += other.buckets[i];
+			}
+			count += other.count;
+			totalNanos += other.totalNanos;
+			maxNanos = Math.max(maxNanos, other.maxNanos);
+		}
+	}
+
+	// upper bound of the bucket containing the q-th sample
+	private long percentile(double q)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long target = (long) Math.ceil(q * count);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += buckets[i];
+			if (seen >= target)
+			{
+				long upper = i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+				return Math.min(upper, maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	private static int bucket(long nanos)
+	{
+		return nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+	}
+
+}
@@ -0,0 +1,216 @@
+package com.duckblade.osrs.fortis.module;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * The plugin's subscribers register through this instead of directly on RuneLite's {@link EventBus}.
+ * Normally it just passes through, but while profiling each {@link Subscribe} method
+ * is registered individually behind a timer, recording a {@link HandlerProfile} per handler.
+ * Switching profiling on or off re-registers everything currently registered.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class PluginEventBus
+{
+
+	private final EventBus eventBus;
+
+	// subscriber -> its timed handlers while profiling, or an empty list when registered directly
+	private final Map<Object, List<EventBus.Subscriber>> registered = new IdentityHashMap<>();
+	private final Map<String, HandlerProfile> profiles = new LinkedHashMap<>();
+
+	private boolean profiling = false;
+
+	public synchronized void register(Object subscriber)
+	{
+		if (registered.containsKey(subscriber))
+		{
+			return;
+		}
+
+		if (profiling)
+		{
+			registered.put(subscriber, registerProfiled(subscriber));
+		}
+		else
+		{
+			eventBus.register(subscriber);
+			registered.put(subscriber, Collections.emptyList());
+		}
+	}
+
+	public synchronized void unregister(Object subscriber)
+	{
+		List<EventBus.Subscriber> handlers = registered.remove(subscriber);
+		if (handlers == null)
+		{
+			return;
+		}
+
+		if (handlers.isEmpty())
+		{
+			eventBus.unregister(subscriber);
+		}
+		else
+		{
+			handlers.forEach(eventBus::unregister);
+		}
+	}
+
+	public void post(Object event)
+	{
+		eventBus.post(event);
+	}
+
+	public synchronized boolean isProfiling()
+	{
+		return profiling;
+	}
+
+	public synchronized void setProfiling(boolean profiling)
+	{
+		if (this.profiling == profiling)
+		{
+			return;
+		}
+
+		List<Object> subscribers = new ArrayList<>(registered.keySet());
+		subscribers.forEach(this::unregister);
+		this.profiling = profiling;
+		subscribers.forEach(this::register);
+		log.debug("Event handler profiling {} for {} subscribers", profiling ? "enabled" : "disabled", subscribers.size());
+	}
+
+	public synchronized List<HandlerProfile.Snapshot> snapshot()
+	{
+		List<HandlerProfile.Snapshot> snapshots = new ArrayList<>(profiles.size());
+		profiles.values().forEach(p -> snapshots.add(p.snapshot()));
+		return snapshots;
+	}
+
+	public synchronized void resetProfiles()
+	{
+		profiles.values().forEach(HandlerProfile::reset);
+	}
+
+	/**
+	 * @return a table of every profiled handler, grouped by event type with a total per type
+	 */
+	public String dump()
+	{
+		Map<String, List<HandlerProfile>> byType = new LinkedHashMap<>();
+		synchronized (this)
+		{
+			profiles.values().stream()
+				.sorted((a, b) -> a.getEventType().compareTo(b.getEventType()))
+				.forEach(p -> byType.computeIfAbsent(p.getEventType(), k -> new ArrayList<>()).add(p));
+		}
+
+		StringBuilder sb = new StringBuilder(String.format(
+			"%-56s %9s %10s %10s %10s %12s%n",
+			"handler", "calls", "p50 us", "p99 us", "max us", "total ms"
+		));
+		byType.forEach((type, handlers) ->
+		{
+			HandlerProfile total = new HandlerProfile(type, type + " (all)");
+			for (HandlerProfile p : handlers)
+			{
+				appendRow(sb, p.snapshot());
+				total.merge(p);
+			}
+			if (handlers.size() > 1)
+			{
+				appendRow(sb, total.snapshot());
+			}
+		});
+		return sb.toString();
+	}
+
+	private static void appendRow(StringBuilder sb, HandlerProfile.Snapshot s)
+	{
+		sb.append(String.format(
+			"%-56s %9d %10.1f %10.1f %10.1f %12.2f%n",
+			s.getHandler(),
+			s.getCount(),
+			s.getP50Nanos() / 1e3,
+			s.getP99Nanos() / 1e3,
+			s.getMaxNanos() / 1e3,
+			s.getTotalNanos() / 1e6
+		));
+	}
+
+	private List<EventBus.Subscriber> registerProfiled(Object subscriber)
+	{
+		List<EventBus.Subscriber> handlers = new ArrayList<>();
+		for (Class<?> clazz = subscriber.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+		{
+			for (Method method : clazz.getDeclaredMethods())
+			{
+				Subscribe sub = method.getAnnotation(Subscribe.class);
+				if (sub == null || method.getParameterCount() != 1)
+				{
+					continue;
+				}
+
+				Class<?> eventType = method.getParameterTypes()[0];
+				String name = subscriber.getClass().getSimpleName() + "." + method.getName();
+				HandlerProfile profile = profiles.computeIfAbsent(name, k -> new HandlerProfile(eventType.getSimpleName(), k));
+				try
+				{
+					method.setAccessible(true);
+					MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(subscriber);
+					handlers.add(eventBus.register(eventType, timed(handle, profile), sub.priority()));
+				}
+				catch (IllegalAccessException e)
+				{
+					log.warn("Failed to profile {}, registering it without timing", name, e);
+					handlers.forEach(eventBus::unregister);
+					eventBus.register(subscriber);
+					return Collections.emptyList();
+				}
+			}
+		}
+		return handlers;
+	}
+
+	private static <T> Consumer<T> timed(MethodHandle handle, HandlerProfile profile)
+	{
+		return event ->
+		{
+			long start = System.nanoTime();
+			try
+			{
+				handle.invoke(event);
+			}
+			catch (RuntimeException | Error e)
+			{
+				throw e;
+			}
+			catch (Throwable t)
+			{
+				throw new RuntimeException(t);
+			}
+			finally
+			{
+				profile.record(System.nanoTime() - start);
+			}
+		};
+	}
+
+}
@@ -1,16 +1,12 @@
 package com.duckblade.osrs.fortis.module;
 
-import com.duckblade.osrs.fortis.FortisColosseumConfig;
-import com.duckblade.osrs.fortis.util.ColosseumState;
-
+/**
+ * A part of the plugin which is started and stopped by the {@link ComponentManager}.
+ * When it should be running is declared by its {@link ComponentRegistration}.
+ */
 public interface PluginLifecycleComponent
 {
 
-	default boolean isEnabled(FortisColosseumConfig config, ColosseumState colosseumState)
-	{
-		return true;
-	}
-
 	void startUp();
 
 	void shutDown();
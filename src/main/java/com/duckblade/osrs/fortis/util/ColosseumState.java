@@ -1,12 +1,10 @@
 package com.duckblade.osrs.fortis.util;
 
 import com.duckblade.osrs.fortis.util.spawns.WaveSpawns;
-import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import net.runelite.api.Client;
 
 @RequiredArgsConstructor
 @EqualsAndHashCode
@@ -14,6 +12,14 @@ import net.runelite.api.Client;
 public class ColosseumState
 {
 
+	/**
+	 * Incremented by the state tracker for every published state,
+	 * so consumers can detect a new snapshot without a full equals.
+	 */
+	@Getter
+	@EqualsAndHashCode.Exclude
+	private final int version;
+
 	@Getter
 	private final boolean inLobby;
 
@@ -27,33 +33,15 @@ public class ColosseumState
 	private final boolean waveStarted;
 
 	@Getter
-	@EqualsAndHashCode.Exclude
-	@ToString.Exclude
-	private final List<Modifier> modifiers;
-
-	@EqualsAndHashCode.Exclude
-	@ToString.Exclude
-	private WaveSpawns waveSpawns;
-
-	@EqualsAndHashCode.Exclude
-	@ToString.Exclude
-	private WaveSpawns nextWaveSpawns;
+	private final ModifierSet modifiers;
 
-	public WaveSpawns getWaveSpawns(Client client)
+	public WaveSpawns getWaveSpawns()
 	{
-		if (this.waveSpawns != null)
-		{
-			return this.waveSpawns;
-		}
-		return this.waveSpawns = WaveSpawns.forWave(client, this, false);
+		return WaveSpawns.forWave(waveNumber, modifiers);
 	}
 
-	public WaveSpawns getNextWaveSpawns(Client client)
+	public WaveSpawns getNextWaveSpawns()
 	{
-		if (this.nextWaveSpawns != null)
-		{
-			return this.nextWaveSpawns;
-		}
-		return this.nextWaveSpawns = WaveSpawns.forWave(client, this, true);
+		return WaveSpawns.forWave(waveNumber + 1, modifiers);
 	}
 }
@@ -0,0 +1,60 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The parts of a {@link ColosseumState} which a component's enablement can depend on.
+ */
+public enum ColosseumStateField
+{
+
+	IN_LOBBY,
+	IN_COLOSSEUM,
+	WAVE_NUMBER,
+	WAVE_STARTED,
+	MODIFIERS,
+	;
+
+	public boolean hasChanged(ColosseumState previous, ColosseumState next)
+	{
+		switch (this)
+		{
+			case IN_LOBBY:
+				return previous.isInLobby() != next.isInLobby();
+			case IN_COLOSSEUM:
+				return previous.isInColosseum() != next.isInColosseum();
+			case WAVE_NUMBER:
+				return previous.getWaveNumber() != next.getWaveNumber();
+			case WAVE_STARTED:
+				return previous.isWaveStarted() != next.isWaveStarted();
+			case MODIFIERS:
+				return !previous.getModifiers().equals(next.getModifiers());
+
+			default:
+				throw new IllegalStateException("Unimplemented state field " + this.name());
+		}
+	}
+
+	/**
+	 * @return every field which differs between the two states, or all fields if there is no previous state
+	 */
+	public static Set<ColosseumStateField> changedBetween(ColosseumState previous, ColosseumState next)
+	{
+		if (previous == null)
+		{
+			return EnumSet.allOf(ColosseumStateField.class);
+		}
+
+		Set<ColosseumStateField> changed = EnumSet.noneOf(ColosseumStateField.class);
+		for (ColosseumStateField field : values())
+		{
+			if (field.hasChanged(previous, next))
+			{
+				changed.add(field);
+			}
+		}
+		return changed;
+	}
+
+}
@@ -1,27 +1,26 @@
 package com.duckblade.osrs.fortis.util;
 
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import com.duckblade.osrs.fortis.util.chat.SolHereditJumped;
+import com.duckblade.osrs.fortis.util.chat.WaveCompleted;
+import com.duckblade.osrs.fortis.util.chat.WaveStarted;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.NpcID;
-import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.ScriptPreFired;
-import net.runelite.client.eventbus.EventBus;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -30,22 +29,27 @@ import net.runelite.client.eventbus.Subscribe;
 public class ColosseumStateTracker implements PluginLifecycleComponent
 {
 
-	private static final int REGION_LOBBY = 7316;
-	private static final int REGION_COLOSSEUM = 7216;
-
 	private static final int SCRIPT_MODIFIER_SELECT_INIT = 4931;
 	private static final int VARBIT_MODIFIER_SELECTED = 9788;
 
-	private static final ColosseumState DEFAULT_STATE = new ColosseumState(false, false, 1, false, Collections.emptyList());
+	private static final Modifier[] MODIFIERS = Modifier.values();
+
+	private static final ColosseumState DEFAULT_STATE = new ColosseumState(0, false, false, 1, false, ModifierSet.EMPTY);
 
 	private final Client client;
-	private final EventBus eventBus;
+	private final PluginEventBus eventBus;
+	private final RegionTracker regionTracker;
 
 	@Getter
 	private ColosseumState currentState = DEFAULT_STATE;
 
+	// working state, only snapshotted into a new ColosseumState when it differs from currentState
+	private int version = 0;
+	private boolean inLobby = false;
+	private boolean inColosseum = false;
 	private int waveNumber = 1;
 	private boolean waveStarted = false;
+	private boolean modifiersChanged = false;
 
 	@Getter
 	private int waveStartTick;
@@ -53,8 +57,7 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 	@Getter
 	private final List<Modifier> modifierOptions = new ArrayList<>(3);
 
-	@Getter(value = AccessLevel.PACKAGE, onMethod_ = @VisibleForTesting)
-	private final List<Modifier> modifiers = new ArrayList<>(12);
+	private final ModifierSet.Builder modifiers = new ModifierSet.Builder();
 
 	@Override
 	public void startUp()
@@ -71,24 +74,18 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 	@Subscribe(priority = 5)
 	public void onGameTick(GameTick e)
 	{
-		LocalPoint lp = client.getLocalPlayer().getLocalLocation();
-		int region = lp == null ? -1 : WorldPoint.fromLocalInstance(client, lp).getRegionID();
-
-		boolean inLobby = region == REGION_LOBBY;
-		boolean inColosseum = client.isInInstancedRegion() && region == REGION_COLOSSEUM;
+		inLobby = regionTracker.isInLobby();
+		inColosseum = regionTracker.isInColosseum();
 
 		if (!inColosseum)
 		{
 			waveNumber = 1;
 			waveStarted = false;
 			modifierOptions.clear();
-			modifiers.clear();
+			modifiersChanged |= modifiers.clear();
 		}
 
-		setState(
-			new ColosseumState(inLobby, inColosseum, waveNumber, waveStarted, Collections.unmodifiableList(modifiers)),
-			false
-		);
+		publishIfChanged();
 	}
 
 	@Subscribe
@@ -98,37 +95,35 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 		{
 			case LOGGING_IN:
 			case HOPPING:
-				setState(DEFAULT_STATE, true);
+				// always announce the reset, the next tick will republish anything still held in the working state
+				inLobby = false;
+				inColosseum = false;
+				modifiersChanged = modifiers.getMask() != 0;
+				setState(new ColosseumState(++version, false, false, 1, false, ModifierSet.EMPTY));
 		}
 	}
 
 	@Subscribe
-	public void onChatMessage(ChatMessage e)
+	public void onWaveStarted(WaveStarted e)
 	{
-		if (e.getType() != ChatMessageType.GAMEMESSAGE || !getCurrentState().isInColosseum())
-		{
-			return;
-		}
+		waveNumber = e.getWave();
+		waveStarted = true;
+		waveStartTick = client.getTickCount();
+	}
 
-		String msg = e.getMessage();
-		if (msg.contains("Sol Heredit jumps down from his seat"))
-		{
-			waveNumber = 12;
-			waveStarted = true;
-			waveStartTick = client.getTickCount();
-		}
-		else if (msg.contains("Wave: ")) // only wave start messages contain a :
-		{
-			waveNumber = Integer.parseInt(msg.substring(18, msg.length() - 6));
-			waveStarted = true;
-			waveStartTick = client.getTickCount();
-		}
-		else if (msg.startsWith("Wave ") && msg.contains("completed!"))
-		{
-			// it's either a two-char number or a number and a space
-			waveNumber = Integer.parseInt(msg.substring(5, 7).trim()) + 1;
-			waveStarted = false;
-		}
+	@Subscribe
+	public void onSolHereditJumped(SolHereditJumped e)
+	{
+		waveNumber = 12;
+		waveStarted = true;
+		waveStartTick = client.getTickCount();
+	}
+
+	@Subscribe
+	public void onWaveCompleted(WaveCompleted e)
+	{
+		waveNumber = e.getWave() + 1;
+		waveStarted = false;
 	}
 
 	@Subscribe
@@ -159,11 +154,15 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 			log.debug("Modifier options = {}", modifierOptions);
 
 			// also make sure we haven't missed any so far
-			for (Modifier h : Modifier.forBitmask((Integer) args[8]))
+			int missing = (Integer) args[8] & ~modifiers.getMask();
+			if (missing != 0)
 			{
-				if (!modifiers.contains(h))
+				for (Modifier h : MODIFIERS)
 				{
-					modifiers.add(h);
+					if ((missing & h.getBit()) != 0)
+					{
+						modifiersChanged |= modifiers.add(h, h.getLevel(client));
+					}
 				}
 			}
 		}
@@ -174,13 +173,54 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 		}
 	}
 
-	private void setState(ColosseumState newValue, boolean forceEvent)
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged e)
+	{
+		// varp changes come through with varbit id -1, the same as modifiers without a level varb
+		if (modifiers.getMask() == 0 || e.getVarbitId() == -1)
+		{
+			return;
+		}
+
+		for (Modifier m : MODIFIERS)
+		{
+			if (m.getLevelVarb() == e.getVarbitId())
+			{
+				modifiersChanged |= modifiers.setLevel(m, e.getValue());
+				return;
+			}
+		}
+	}
+
+	@VisibleForTesting
+	void setModifiers(Collection<Modifier> modifiers)
 	{
-		if (!forceEvent && currentState.equals(newValue))
+		this.modifiers.clear();
+		for (Modifier m : modifiers)
+		{
+			this.modifiers.add(m, m.getLevel(client));
+		}
+		modifiersChanged = true;
+	}
+
+	private void publishIfChanged()
+	{
+		ColosseumState current = currentState;
+		if (!modifiersChanged &&
+			current.isInLobby() == inLobby &&
+			current.isInColosseum() == inColosseum &&
+			current.getWaveNumber() == waveNumber &&
+			current.isWaveStarted() == waveStarted)
 		{
 			return;
 		}
 
+		modifiersChanged = false;
+		setState(new ColosseumState(++version, inLobby, inColosseum, waveNumber, waveStarted, modifiers.build()));
+	}
+
+	private void setState(ColosseumState newValue)
+	{
 		log.debug("Colosseum state change {} => {}", currentState, newValue);
 		ColosseumState previous = currentState;
 		currentState = newValue;
@@ -210,10 +250,7 @@ public class ColosseumStateTracker implements PluginLifecycleComponent
 			return;
 		}
 
-		if (!modifiers.contains(selected))
-		{
-			modifiers.add(selected);
-		}
-		log.debug("Tracked modifier selection {} (ix {}), handicaps = {}", selected, selectedIx, modifiers);
+		modifiersChanged |= modifiers.add(selected, selected.getLevel(client));
+		log.debug("Tracked modifier selection {} (ix {}), mask = {}", selected, selectedIx, Integer.toBinaryString(modifiers.getMask()));
 	}
 }
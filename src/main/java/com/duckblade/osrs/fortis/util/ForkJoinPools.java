@@ -0,0 +1,28 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+public final class ForkJoinPools
+{
+
+	private ForkJoinPools()
+	{
+	}
+
+	/**
+	 * A small pool of daemon threads named {@code <name>-N}, leaving at least one core for the client.
+	 */
+	public static ForkJoinPool newDaemonPool(String name, int maxParallelism)
+	{
+		int parallelism = Math.max(1, Math.min(maxParallelism, Runtime.getRuntime().availableProcessors() - 1));
+		return new ForkJoinPool(parallelism, p ->
+		{
+			ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+			t.setDaemon(true);
+			t.setName(name + "-" + t.getPoolIndex());
+			return t;
+		}, null, false);
+	}
+
+}
@@ -0,0 +1,182 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open-addressing map from int keys (e.g. NPC indices) to non-null values, without boxing the keys.
+ * Iterate without allocating via {@link #capacity()} and {@link #valueAt(int)}.
+ * Not thread safe.
+ */
+public final class IntObjectMap<V>
+{
+
+	private int[] keys;
+	private Object[] values; // null marks an empty slot
+	private int mask;
+	private int size;
+
+	public IntObjectMap(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+	}
+
+	public V get(int key)
+	{
+		for (int slot = slot(key); ; slot = (slot + 1) & mask)
+		{
+			Object v = values[slot];
+			if (v == null || keys[slot] == key)
+			{
+				return cast(v);
+			}
+		}
+	}
+
+	public boolean containsKey(int key)
+	{
+		return get(key) != null;
+	}
+
+	/**
+	 * @return the previous value for the key, or null
+	 */
+	public V put(int key, V value)
+	{
+		if (value == null)
+		{
+			throw new IllegalArgumentException("null values are not supported");
+		}
+
+		int slot = slot(key);
+		for (; values[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (keys[slot] == key)
+			{
+				V previous = cast(values[slot]);
+				values[slot] = value;
+				return previous;
+			}
+		}
+
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size * 2 > values.length)
+		{
+			resize(values.length << 1);
+		}
+		return null;
+	}
+
+	/**
+	 * @return the removed value, or null if the key was not present
+	 */
+	public V remove(int key)
+	{
+		int slot = slot(key);
+		for (; values[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (keys[slot] == key)
+			{
+				V removed = cast(values[slot]);
+				shiftBack(slot);
+				size--;
+				return removed;
+			}
+		}
+		return null;
+	}
+
+	public void clear()
+	{
+		if (size != 0)
+		{
+			Arrays.fill(values, null);
+			size = 0;
+		}
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public int capacity()
+	{
+		return values.length;
+	}
+
+	/**
+	 * @return the value in the given slot, or null if the slot is empty
+	 */
+	public V valueAt(int slot)
+	{
+		return cast(values[slot]);
+	}
+
+	public int keyAt(int slot)
+	{
+		return keys[slot];
+	}
+
+	// fills the gap left at slot by moving back any later entries of the same probe run,
+	// so lookups never need tombstones
+	private void shiftBack(int gap)
+	{
+		for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask)
+		{
+			int home = slot(keys[slot]);
+			// move the entry if its home is not cyclically within (gap, slot]
+			if (((slot - home) & mask) >= ((slot - gap) & mask))
+			{
+				keys[gap] = keys[slot];
+				values[gap] = values[slot];
+				gap = slot;
+			}
+		}
+		values[gap] = null;
+	}
+
+	private void resize(int capacity)
+	{
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+
+		for (int i = 0; i < oldValues.length; i++)
+		{
+			if (oldValues[i] != null)
+			{
+				int slot = slot(oldKeys[i]);
+				while (values[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private int slot(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <V> V cast(Object o)
+	{
+		return (V) o;
+	}
+
+}
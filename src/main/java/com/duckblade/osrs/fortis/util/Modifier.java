@@ -36,6 +36,14 @@ public enum Modifier
 	@Getter
 	private final int levelVarb;
 
+	/**
+	 * @return this modifier's bit in the game's modifier bitmask
+	 */
+	public int getBit()
+	{
+		return 1 << id;
+	}
+
 	public int getLevel(Client client)
 	{
 		if (levelVarb == -1)
@@ -99,7 +107,7 @@ public enum Modifier
 		Set<Modifier> ret = EnumSet.noneOf(Modifier.class);
 		for (Modifier h : values())
 		{
-			if ((bits & (1 << h.id)) != 0)
+			if ((bits & h.getBit()) != 0)
 			{
 				ret.add(h);
 			}
@@ -0,0 +1,153 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Immutable set of active modifiers, backed by the same bitmask the game uses (1 << {@link Modifier#getId()}).
+ * Also holds the level of each active modifier and the order in which they were selected.
+ */
+@EqualsAndHashCode
+public final class ModifierSet
+{
+
+	private static final Modifier[] MODIFIERS = Modifier.values();
+
+	public static final ModifierSet EMPTY = new ModifierSet(0, new byte[0], new byte[MODIFIERS.length]);
+
+	@Getter
+	private final int mask;
+
+	// ordinals, in selection order
+	private final byte[] order;
+
+	// indexed by ordinal, 0 when inactive
+	private final byte[] levels;
+
+	private ModifierSet(int mask, byte[] order, byte[] levels)
+	{
+		this.mask = mask;
+		this.order = order;
+		this.levels = levels;
+	}
+
+	public boolean has(Modifier modifier)
+	{
+		return (mask & modifier.getBit()) != 0;
+	}
+
+	public int getLevel(Modifier modifier)
+	{
+		return levels[modifier.ordinal()];
+	}
+
+	public int size()
+	{
+		return order.length;
+	}
+
+	public boolean isEmpty()
+	{
+		return mask == 0;
+	}
+
+	/**
+	 * @return the i-th selected modifier, for iterating in selection order without allocating an iterator
+	 */
+	public Modifier get(int i)
+	{
+		return MODIFIERS[order[i]];
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < order.length; i++)
+		{
+			if (i != 0)
+			{
+				sb.append(", ");
+			}
+			Modifier m = get(i);
+			sb.append(m.name()).append(' ').append(levels[m.ordinal()]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * Mutable counterpart used by the state tracker as working state.
+	 * Mutators report whether anything actually changed.
+	 */
+	public static final class Builder
+	{
+
+		private int mask = 0;
+		private final byte[] order = new byte[MODIFIERS.length];
+		private int count = 0;
+		private final byte[] levels = new byte[MODIFIERS.length];
+
+		public int getMask()
+		{
+			return mask;
+		}
+
+		public boolean has(Modifier modifier)
+		{
+			return (mask & modifier.getBit()) != 0;
+		}
+
+		public boolean add(Modifier modifier, int level)
+		{
+			if (has(modifier))
+			{
+				return false;
+			}
+
+			mask |= modifier.getBit();
+			order[count++] = (byte) modifier.ordinal();
+			levels[modifier.ordinal()] = (byte) level;
+			return true;
+		}
+
+		/**
+		 * Updates the level of an active modifier, inactive modifiers are ignored.
+		 */
+		public boolean setLevel(Modifier modifier, int level)
+		{
+			if (!has(modifier) || levels[modifier.ordinal()] == level)
+			{
+				return false;
+			}
+
+			levels[modifier.ordinal()] = (byte) level;
+			return true;
+		}
+
+		public boolean clear()
+		{
+			if (mask == 0)
+			{
+				return false;
+			}
+
+			mask = 0;
+			count = 0;
+			Arrays.fill(levels, (byte) 0);
+			return true;
+		}
+
+		public ModifierSet build()
+		{
+			if (mask == 0)
+			{
+				return EMPTY;
+			}
+
+			return new ModifierSet(mask, Arrays.copyOf(order, count), levels.clone());
+		}
+
+	}
+
+}
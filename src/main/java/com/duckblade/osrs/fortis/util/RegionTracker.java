@@ -0,0 +1,134 @@
+package com.duckblade.osrs.fortis.util;
+
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Caches whether the player is in the colosseum lobby or arena.
+ * Both areas are only entered through a scene load,
+ * so the region is only recomputed after a LOADING/LOGGED_IN game state change
+ * instead of converting the player's location every tick.
+ * Must only be read on the client thread.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+@Slf4j
+public class RegionTracker implements PluginLifecycleComponent
+{
+
+	public static final int REGION_LOBBY = 7316;
+	public static final int REGION_COLOSSEUM = 7216;
+
+	private final Client client;
+	private final PluginEventBus eventBus;
+
+	private boolean stale = true;
+	private int regionId = -1;
+	private boolean inLobby = false;
+	private boolean inColosseum = false;
+
+	@Override
+	public void startUp()
+	{
+		stale = true;
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		switch (e.getGameState())
+		{
+			case LOADING:
+			case LOGGED_IN:
+				// the scene (and the instance map, if any) is being rebuilt,
+				// recompute on next read once the player has been placed
+				stale = true;
+				break;
+
+			default:
+				stale = false;
+				regionId = -1;
+				inLobby = false;
+				inColosseum = false;
+		}
+	}
+
+	public int getRegionId()
+	{
+		refreshIfStale();
+		return regionId;
+	}
+
+	public boolean isInLobby()
+	{
+		refreshIfStale();
+		return inLobby;
+	}
+
+	public boolean isInColosseum()
+	{
+		refreshIfStale();
+		return inColosseum;
+	}
+
+	private void refreshIfStale()
+	{
+		if (!stale)
+		{
+			return;
+		}
+
+		Player player = client.getLocalPlayer();
+		LocalPoint lp = player == null ? null : player.getLocalLocation();
+		if (lp == null)
+		{
+			// not placed yet, try again on the next read
+			return;
+		}
+
+		WorldView wv = player.getWorldView();
+		regionId = getTemplateRegion(wv, lp);
+		inLobby = regionId == REGION_LOBBY;
+		inColosseum = wv.isInstance() && regionId == REGION_COLOSSEUM;
+		stale = false;
+		log.debug("Region updated to {} (lobby = {}, colosseum = {})", regionId, inLobby, inColosseum);
+	}
+
+	private static int getTemplateRegion(WorldView wv, LocalPoint lp)
+	{
+		if (!wv.isInstance())
+		{
+			return toRegionId(wv.getBaseX() + lp.getSceneX(), wv.getBaseY() + lp.getSceneY());
+		}
+
+		// read the template chunk directly rather than allocating a WorldPoint via fromLocalInstance,
+		// chunks are 8-aligned so rotation within the chunk can't change the region
+		int chunkData = wv.getInstanceTemplateChunks()[wv.getPlane()][lp.getSceneX() >> 3][lp.getSceneY() >> 3];
+		int templateX = (chunkData >> 14 & 0x3FF) << 3;
+		int templateY = (chunkData >> 3 & 0x7FF) << 3;
+		return toRegionId(templateX, templateY);
+	}
+
+	private static int toRegionId(int x, int y)
+	{
+		return ((x >> 6) << 8) | (y >> 6);
+	}
+
+}
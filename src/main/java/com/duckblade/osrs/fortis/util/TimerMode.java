@@ -1,5 +1,6 @@
 package com.duckblade.osrs.fortis.util;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Client;
@@ -18,32 +19,75 @@ public enum TimerMode
 
 	private static final int VARBIT_PRECISE_TIMING = 11866;
 
+	// an hour, comfortably longer than any run
+	private static final int CACHED_TICKS = 6000;
+
+	@Getter(AccessLevel.NONE)
+	private String[] cache;
+
+	/**
+	 * @return the formatted time, from a cache for the first {@link #CACHED_TICKS} ticks
+	 */
 	public String format(int ticks)
 	{
 		if (ticks < 0)
 		{
 			return this.nullPattern;
 		}
+		if (ticks >= CACHED_TICKS)
+		{
+			return appendTo(new StringBuilder(12), ticks).toString();
+		}
+
+		// racing threads at worst format the same value twice
+		String[] cache = this.cache;
+		if (cache == null)
+		{
+			cache = this.cache = new String[CACHED_TICKS];
+		}
+		String formatted = cache[ticks];
+		if (formatted == null)
+		{
+			formatted = cache[ticks] = appendTo(new StringBuilder(12), ticks).toString();
+		}
+		return formatted;
+	}
 
-		int mins = (ticks / 100);
-		float secondsReal = (ticks % 100) * 0.6f;
-		int seconds = (int) secondsReal;
-		int tenths = Math.round((secondsReal - seconds) * 10f);
+	/**
+	 * Appends the formatted time to sb without allocating.
+	 *
+	 * @return sb
+	 */
+	public StringBuilder appendTo(StringBuilder sb, int ticks)
+	{
+		if (ticks < 0)
+		{
+			return sb.append(this.nullPattern);
+		}
 
-		switch (this)
+		if (this == TICKS)
 		{
-			case PRECISE:
-				return String.format("%d:%02d.%d0", mins, seconds, tenths);
+			return sb.append(ticks);
+		}
 
-			case LAX:
-				return String.format("%d:%02d", mins, seconds);
+		// a tick is 0.6s, so each 100 ticks is a minute and the seconds are 3/5 of the remainder,
+		// with the tenths always even
+		int mins = ticks / 100;
+		int scaled = (ticks % 100) * 3;
+		int seconds = scaled / 5;
 
-			case TICKS:
-				return String.valueOf(ticks);
+		sb.append(mins).append(':');
+		if (seconds < 10)
+		{
+			sb.append('0');
+		}
+		sb.append(seconds);
 
-			default:
-				throw new IllegalStateException("Unimplemented timer mode format " + this.name());
+		if (this == PRECISE)
+		{
+			sb.append('.').append((char) ('0' + 2 * (scaled % 5))).append('0');
 		}
+		return sb;
 	}
 
 	public static TimerMode fromClient(Client c)
@@ -0,0 +1,196 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.module.PluginLifecycleComponent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Classifies each colosseum game message exactly once
+ * and re-posts it as a typed event for the trackers to consume.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class ChatDecoder implements PluginLifecycleComponent
+{
+
+	private static final String WAVE = "Wave";
+	private static final String COMPLETED = " completed!";
+	private static final String DURATION = "duration:";
+	private static final String SOL_HEREDIT_JUMPED = "Sol Heredit jumps down from his seat";
+
+	private final PluginEventBus eventBus;
+
+	@Override
+	public void startUp()
+	{
+		eventBus.register(this);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		eventBus.unregister(this);
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage e)
+	{
+		if (e.getType() != ChatMessageType.GAMEMESSAGE)
+		{
+			return;
+		}
+
+		Object decoded = decode(e.getMessage());
+		if (decoded != null)
+		{
+			log.debug("Decoded {} from [{}]", decoded, e.getMessage());
+			eventBus.post(decoded);
+		}
+	}
+
+	/**
+	 * @return a {@link WaveStarted}, {@link WaveCompleted} or {@link SolHereditJumped} event,
+	 * or null if the message is not one of the colosseum messages we track
+	 */
+	public static Object decode(String msg)
+	{
+		int start = skipTags(msg, 0);
+		if (start >= msg.length())
+		{
+			return null;
+		}
+
+		switch (msg.charAt(start))
+		{
+			case 'W':
+				return decodeWave(msg, start);
+
+			case 'S':
+				return msg.startsWith(SOL_HEREDIT_JUMPED, start) ? new SolHereditJumped() : null;
+
+			default:
+				return null;
+		}
+	}
+
+	// "Wave: 3" or "Wave 3 completed! Wave duration: 1:02.40", possibly with col tags around the numbers
+	private static Object decodeWave(String msg, int start)
+	{
+		if (!msg.startsWith(WAVE, start) || msg.length() < start + WAVE.length() + 2)
+		{
+			return null;
+		}
+
+		int i = start + WAVE.length();
+		boolean waveStart = msg.charAt(i) == ':';
+		if (!waveStart && msg.charAt(i) != ' ')
+		{
+			return null;
+		}
+
+		i = skipTags(msg, skipSpaces(msg, i + 1));
+		int numberEnd = skipDigits(msg, i);
+		if (numberEnd == i)
+		{
+			return null;
+		}
+
+		int wave = parseInt(msg, i, numberEnd);
+		if (waveStart)
+		{
+			return new WaveStarted(wave);
+		}
+
+		if (!msg.startsWith(COMPLETED, numberEnd))
+		{
+			return null;
+		}
+
+		int durationStart = msg.indexOf(DURATION, numberEnd + COMPLETED.length());
+		int duration = durationStart == -1 ? -1 : parseDuration(msg, durationStart + DURATION.length());
+		return new WaveCompleted(wave, duration);
+	}
+
+	// m:ss.hh, where one minute is exactly 100 ticks and partial ticks round up
+	private static int parseDuration(String msg, int start)
+	{
+		int i = skipTags(msg, skipSpaces(msg, start));
+		int minutesEnd = skipDigits(msg, i);
+		if (minutesEnd == i || minutesEnd >= msg.length() || msg.charAt(minutesEnd) != ':')
+		{
+			return -1;
+		}
+		int minutes = parseInt(msg, i, minutesEnd);
+
+		i = minutesEnd + 1;
+		int secondsEnd = skipDigits(msg, i);
+		if (secondsEnd == i)
+		{
+			return -1;
+		}
+		int centiseconds = parseInt(msg, i, secondsEnd) * 100;
+
+		if (secondsEnd < msg.length() && msg.charAt(secondsEnd) == '.')
+		{
+			// only the first two fractional digits are meaningful, pad to hundredths
+			int fractionEnd = skipDigits(msg, secondsEnd + 1);
+			int scale = 10;
+			for (int f = secondsEnd + 1; f < fractionEnd && scale > 0; f++, scale /= 10)
+			{
+				centiseconds += (msg.charAt(f) - '0') * scale;
+			}
+		}
+
+		return minutes * 100 + (centiseconds + 59) / 60;
+	}
+
+	private static int skipTags(String msg, int i)
+	{
+		while (i < msg.length() && msg.charAt(i) == '<')
+		{
+			int close = msg.indexOf('>', i);
+			if (close == -1)
+			{
+				break;
+			}
+			i = close + 1;
+		}
+		return i;
+	}
+
+	private static int skipSpaces(String msg, int i)
+	{
+		while (i < msg.length() && msg.charAt(i) == ' ')
+		{
+			i++;
+		}
+		return i;
+	}
+
+	private static int skipDigits(String msg, int i)
+	{
+		while (i < msg.length() && msg.charAt(i) >= '0' && msg.charAt(i) <= '9')
+		{
+			i++;
+		}
+		return i;
+	}
+
+	private static int parseInt(String msg, int start, int end)
+	{
+		int value = 0;
+		for (int i = start; i < end; i++)
+		{
+			value = value * 10 + (msg.charAt(i) - '0');
+		}
+		return value;
+	}
+
+}
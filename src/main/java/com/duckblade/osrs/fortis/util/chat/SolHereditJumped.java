@@ -0,0 +1,8 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import lombok.Value;
+
+@Value
+public class SolHereditJumped
+{
+}
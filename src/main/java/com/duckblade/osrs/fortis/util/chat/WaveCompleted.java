@@ -0,0 +1,18 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import lombok.Value;
+
+@Value
+public class WaveCompleted
+{
+
+	int wave;
+
+	/**
+	 * The duration reported in the completion message, in ticks.
+	 * For wave 12 this is the overall run time rather than the wave time.
+	 * -1 if the message did not contain a duration.
+	 */
+	int durationTicks;
+
+}
@@ -0,0 +1,11 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import lombok.Value;
+
+@Value
+public class WaveStarted
+{
+
+	int wave;
+
+}
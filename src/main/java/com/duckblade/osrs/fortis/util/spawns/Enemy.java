@@ -8,16 +8,16 @@ import lombok.RequiredArgsConstructor;
 public enum Enemy
 {
 
-	FREMENNIK("Fremennik", "Fremmy", -1, -1),
-	SERPENT_SHAMAN("Serpent Shaman", "Mage", 1, 7),
-	JAGUAR_WARRIOR("Jaguar Warrior", "Melee", 3, -1),
-	JAVELIN_COLOSSUS("Javelin Colossus", "Ranger", 2, -1),
-	MANTICORE("Manticore", "Lion", 4, -1),
-	SHOCKWAVE_COLOSSUS("Shockwave Colossus", "Shocker", 6, -1),
-	MINOTAUR("Minotaur", "Minotaur", 5, -1),
-	SOL_HEREDIT("Sol Heredit", "Sol Heredit", -1, -1),
-
-	ANGRY_BEES("Angry Bees", "BEES!!", -1, -1),
+	FREMENNIK("Fremennik", "Fremmy", -1, -1, -1, 1),
+	SERPENT_SHAMAN("Serpent Shaman", "Mage", 1, 7, 15, 1),
+	JAGUAR_WARRIOR("Jaguar Warrior", "Melee", 3, -1, 1, 2),
+	JAVELIN_COLOSSUS("Javelin Colossus", "Ranger", 2, -1, 15, 3),
+	MANTICORE("Manticore", "Lion", 4, -1, 15, 3),
+	SHOCKWAVE_COLOSSUS("Shockwave Colossus", "Shocker", 6, -1, 10, 3),
+	MINOTAUR("Minotaur", "Minotaur", 5, -1, 1, 3),
+	SOL_HEREDIT("Sol Heredit", "Sol Heredit", -1, -1, -1, 5),
+
+	ANGRY_BEES("Angry Bees", "BEES!!", -1, -1, -1, 1),
 	;
 
 	private final String npcName;
@@ -25,6 +25,16 @@ public enum Enemy
 	private final int colosimLosId;
 	private final int reinforcementColosimLosId;
 
+	/**
+	 * In tiles from the npc's footprint, with 1 meaning melee, or -1 if not tracked in the arena.
+	 */
+	private final int attackRange;
+
+	/**
+	 * Width of the npc's square footprint in tiles.
+	 */
+	private final int size;
+
 	public int getColosimLosId(boolean reinforcement)
 	{
 		return reinforcement && reinforcementColosimLosId != -1 ? reinforcementColosimLosId : colosimLosId;
@@ -0,0 +1,304 @@
+package com.duckblade.osrs.fortis.util.spawns;
+
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Wave spawn rules from the bundled waves.txt, compiled into flat arrays
+ * indexed by (kind, wave, {@link Enemy#ordinal()}).
+ */
+final class WaveDefinitions
+{
+
+	static final int KIND_SPAWN = 0;
+	static final int KIND_REINFORCEMENT = 1;
+	static final int KIND_MODIFIER = 2;
+	private static final int KIND_COUNT = 3;
+
+	static final Enemy[] ENEMIES = Enemy.values();
+	private static final Modifier[] MODIFIERS = Modifier.values();
+
+	private static final int MAX_LEVEL = 3;
+	private static final int COUNT_LEVEL = -1;
+	private static final int NO_CONDITION = -1;
+
+	@Getter
+	private final int maxWave;
+
+	private final int[] baseCounts;
+	private final int[] conditionalCounts;
+	private final byte[] conditions; // modifier ordinal, or NO_CONDITION
+
+	// modifiers referenced by any rule, and how many key bits each needs (1 for presence, 2 for level)
+	private final Modifier[] keyModifiers;
+	private final boolean[] keyUsesLevel;
+	@Getter
+	private final int modifierKeyBits;
+
+	private WaveDefinitions(int maxWave)
+	{
+		this.maxWave = maxWave;
+		int size = KIND_COUNT * (maxWave + 1) * ENEMIES.length;
+		this.baseCounts = new int[size];
+		this.conditionalCounts = new int[size];
+		this.conditions = new byte[size];
+		Arrays.fill(conditions, (byte) NO_CONDITION);
+
+		this.keyModifiers = new Modifier[MODIFIERS.length];
+		this.keyUsesLevel = new boolean[MODIFIERS.length];
+		this.modifierKeyBits = 0;
+	}
+
+	private WaveDefinitions(WaveDefinitions parsed, Modifier[] keyModifiers, boolean[] keyUsesLevel, int modifierKeyBits)
+	{
+		this.maxWave = parsed.maxWave;
+		this.baseCounts = parsed.baseCounts;
+		this.conditionalCounts = parsed.conditionalCounts;
+		this.conditions = parsed.conditions;
+		this.keyModifiers = keyModifiers;
+		this.keyUsesLevel = keyUsesLevel;
+		this.modifierKeyBits = modifierKeyBits;
+	}
+
+	int count(int kind, int wave, Enemy enemy, ModifierSet modifiers)
+	{
+		if (wave < 1 || wave > maxWave)
+		{
+			return 0;
+		}
+
+		int ix = index(kind, wave, enemy.ordinal());
+		int condition = conditions[ix];
+		if (condition == NO_CONDITION || !modifiers.has(MODIFIERS[condition]))
+		{
+			return baseCounts[ix];
+		}
+
+		int count = conditionalCounts[ix];
+		return count == COUNT_LEVEL ? level(modifiers, MODIFIERS[condition]) : count;
+	}
+
+	/**
+	 * Packs the parts of the modifier set which can affect any rule into {@link #getModifierKeyBits()} bits,
+	 * such that two sets with the same key always produce the same spawns.
+	 */
+	int modifierKey(ModifierSet modifiers)
+	{
+		int key = 0;
+		for (int i = 0; i < keyModifiers.length; i++)
+		{
+			Modifier m = keyModifiers[i];
+			if (keyUsesLevel[i])
+			{
+				key = (key << 2) | (modifiers.has(m) ? level(modifiers, m) : 0);
+			}
+			else
+			{
+				key = (key << 1) | (modifiers.has(m) ? 1 : 0);
+			}
+		}
+		return key;
+	}
+
+	private int index(int kind, int wave, int enemyOrdinal)
+	{
+		return (kind * (maxWave + 1) + wave) * ENEMIES.length + enemyOrdinal;
+	}
+
+	private static int level(ModifierSet modifiers, Modifier modifier)
+	{
+		return Math.min(MAX_LEVEL, Math.max(1, modifiers.getLevel(modifier)));
+	}
+
+	static WaveDefinitions load()
+	{
+		try (InputStream in = WaveDefinitions.class.getResourceAsStream("waves.txt"))
+		{
+			if (in == null)
+			{
+				throw new IllegalStateException("Missing waves.txt resource");
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			return parse(reader.lines().toArray(String[]::new));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Failed to read waves.txt resource", e);
+		}
+	}
+
+	static WaveDefinitions parse(String[] lines)
+	{
+		// first pass just to size the arrays
+		int maxWave = 0;
+		for (int i = 0; i < lines.length; i++)
+		{
+			String[] parts = split(lines[i]);
+			if (parts != null)
+			{
+				for (int wave : parseWaves(parts[0], i))
+				{
+					maxWave = Math.max(maxWave, wave);
+				}
+			}
+		}
+
+		WaveDefinitions defs = new WaveDefinitions(maxWave);
+		boolean[] conditionUsed = new boolean[MODIFIERS.length];
+		boolean[] levelUsed = new boolean[MODIFIERS.length];
+		for (int i = 0; i < lines.length; i++)
+		{
+			String[] parts = split(lines[i]);
+			if (parts == null)
+			{
+				continue;
+			}
+
+			if (parts.length != 4 && parts.length != 5)
+			{
+				throw parseError(i, "expected 4 or 5 columns");
+			}
+
+			int kind = parseKind(parts[1], i);
+			Enemy enemy = parseEnum(Enemy.class, parts[2], i);
+			boolean levelCount = "level".equals(parts[3]);
+			int count = levelCount ? COUNT_LEVEL : parseCount(parts[3], i);
+			Modifier condition = parts.length == 5 ? parseEnum(Modifier.class, parts[4], i) : null;
+			if (levelCount && condition == null)
+			{
+				throw parseError(i, "level count requires a modifier");
+			}
+
+			for (int wave : parseWaves(parts[0], i))
+			{
+				int ix = defs.index(kind, wave, enemy.ordinal());
+				if (condition == null)
+				{
+					defs.baseCounts[ix] = count;
+					continue;
+				}
+
+				if (defs.conditions[ix] != NO_CONDITION && defs.conditions[ix] != condition.ordinal())
+				{
+					throw parseError(i, "only one modifier condition is supported per wave/kind/enemy");
+				}
+				defs.conditions[ix] = (byte) condition.ordinal();
+				defs.conditionalCounts[ix] = count;
+			}
+
+			if (condition != null)
+			{
+				conditionUsed[condition.ordinal()] = true;
+				levelUsed[condition.ordinal()] |= levelCount;
+			}
+		}
+
+		int keyCount = 0;
+		int keyBits = 0;
+		Modifier[] keyModifiers = new Modifier[MODIFIERS.length];
+		boolean[] keyUsesLevel = new boolean[MODIFIERS.length];
+		for (Modifier m : MODIFIERS)
+		{
+			if (conditionUsed[m.ordinal()])
+			{
+				keyModifiers[keyCount] = m;
+				keyUsesLevel[keyCount] = levelUsed[m.ordinal()];
+				keyBits += levelUsed[m.ordinal()] ? 2 : 1;
+				keyCount++;
+			}
+		}
+
+		return new WaveDefinitions(
+			defs,
+			Arrays.copyOf(keyModifiers, keyCount),
+			Arrays.copyOf(keyUsesLevel, keyCount),
+			keyBits
+		);
+	}
+
+	private static String[] split(String line)
+	{
+		String trimmed = line.trim();
+		if (trimmed.isEmpty() || trimmed.charAt(0) == '#')
+		{
+			return null;
+		}
+		return trimmed.split("\\s+");
+	}
+
+	private static int[] parseWaves(String spec, int line)
+	{
+		int[] waves = new int[0];
+		for (String part : spec.split(","))
+		{
+			int dash = part.indexOf('-');
+			int from = parseCount(dash == -1 ? part : part.substring(0, dash), line);
+			int to = dash == -1 ? from : parseCount(part.substring(dash + 1), line);
+			if (from < 1 || to < from)
+			{
+				throw parseError(line, "invalid wave range " + part);
+			}
+
+			int offset = waves.length;
+			waves = Arrays.copyOf(waves, offset + to - from + 1);
+			for (int w = from; w <= to; w++)
+			{
+				waves[offset + w - from] = w;
+			}
+		}
+		return waves;
+	}
+
+	private static int parseKind(String kind, int line)
+	{
+		switch (kind)
+		{
+			case "spawn":
+				return KIND_SPAWN;
+			case "reinforcement":
+				return KIND_REINFORCEMENT;
+			case "modifier":
+				return KIND_MODIFIER;
+			default:
+				throw parseError(line, "unknown kind " + kind);
+		}
+	}
+
+	private static int parseCount(String count, int line)
+	{
+		try
+		{
+			return Integer.parseInt(count);
+		}
+		catch (NumberFormatException e)
+		{
+			throw parseError(line, "invalid number " + count);
+		}
+	}
+
+	private static <T extends Enum<T>> T parseEnum(Class<T> type, String name, int line)
+	{
+		try
+		{
+			return Enum.valueOf(type, name);
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw parseError(line, "unknown " + type.getSimpleName() + " " + name);
+		}
+	}
+
+	private static IllegalStateException parseError(int line, String message)
+	{
+		return new IllegalStateException("waves.txt line " + (line + 1) + ": " + message);
+	}
+
+}
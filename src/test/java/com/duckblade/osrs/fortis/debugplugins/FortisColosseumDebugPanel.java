@@ -1,8 +1,11 @@
 package com.duckblade.osrs.fortis.debugplugins;
 
+import com.duckblade.osrs.fortis.module.ComponentTimings;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.util.DebugColosseumStateTrackerInterface;
 import com.duckblade.osrs.fortis.util.Modifier;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.GridLayout;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,9 +17,12 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
+import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.events.ScriptPreFired;
@@ -38,6 +44,11 @@ public class FortisColosseumDebugPanel extends DevToolsFrame
 	private final ClientThread clientThread;
 	private final EventBus eventBus;
 	private final DebugColosseumStateTrackerInterface stateTrackerInterface;
+	private final ComponentTimings componentTimings;
+	private final PluginEventBus pluginEventBus;
+
+	private final JTextArea timingsText = new JTextArea();
+	private final JTextArea profileText = new JTextArea();
 
 	private final Map<Modifier, Integer> modifiers = new HashMap<>();
 	private final List<Modifier> options = new ArrayList<>(Arrays.asList(Modifier.BEES, Modifier.BEES, Modifier.BEES));
@@ -51,18 +62,22 @@ public class FortisColosseumDebugPanel extends DevToolsFrame
 		ClientThread clientThread,
 		SpriteManager spriteManager,
 		EventBus eventBus,
-		DebugColosseumStateTrackerInterface stateTrackerInterface
+		DebugColosseumStateTrackerInterface stateTrackerInterface,
+		ComponentTimings componentTimings,
+		PluginEventBus pluginEventBus
 	)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.eventBus = eventBus;
 		this.stateTrackerInterface = stateTrackerInterface;
+		this.componentTimings = componentTimings;
+		this.pluginEventBus = pluginEventBus;
 		eventBus.register(this);
 
 		setTitle("Fortis Colosseum");
 		setAlwaysOnTop(true);
-		setPreferredSize(new Dimension(800, 320));
+		setPreferredSize(new Dimension(800, 880));
 		getContentPane().setLayout(new BoxLayout(getContentPane(), BoxLayout.Y_AXIS));
 		add(Box.createVerticalStrut(5));
 
@@ -103,10 +118,98 @@ public class FortisColosseumDebugPanel extends DevToolsFrame
 		}
 		mockOptions.add(optionCombos);
 		add(mockOptions);
+		add(Box.createVerticalStrut(10));
+
+		JPanel timings = new JPanel();
+		timings.setLayout(new BoxLayout(timings, BoxLayout.Y_AXIS));
+		JPanel timingsButtons = new JPanel(new GridLayout(1, 2));
+		timingsButtons.setMaximumSize(new Dimension(1000, 30));
+		JButton refreshTimings = new JButton("Refresh component timings");
+		refreshTimings.addActionListener((_e) -> refreshTimings());
+		timingsButtons.add(refreshTimings);
+		JButton resetTimings = new JButton("Reset component timings");
+		resetTimings.addActionListener((_e) ->
+		{
+			componentTimings.reset();
+			refreshTimings();
+		});
+		timingsButtons.add(resetTimings);
+		timings.add(timingsButtons);
+
+		timingsText.setEditable(false);
+		timingsText.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		timings.add(new JScrollPane(timingsText));
+		add(timings);
+		add(Box.createVerticalStrut(10));
+
+		JPanel profile = new JPanel();
+		profile.setLayout(new BoxLayout(profile, BoxLayout.Y_AXIS));
+		JPanel profileButtons = new JPanel(new GridLayout(1, 3));
+		profileButtons.setMaximumSize(new Dimension(1000, 30));
+		JCheckBox profileActive = new JCheckBox("Profile event handlers");
+		profileActive.addActionListener((_e) -> clientThread.invokeLater(() -> pluginEventBus.setProfiling(profileActive.isSelected())));
+		profileButtons.add(profileActive);
+		JButton dumpProfile = new JButton("Dump handler profiles");
+		dumpProfile.addActionListener((_e) ->
+		{
+			String dump = pluginEventBus.dump();
+			log.info("Fortis Colosseum event handler profiles:\n{}", dump);
+			profileText.setText(dump);
+		});
+		profileButtons.add(dumpProfile);
+		JButton resetProfile = new JButton("Reset handler profiles");
+		resetProfile.addActionListener((_e) ->
+		{
+			pluginEventBus.resetProfiles();
+			profileText.setText("");
+		});
+		profileButtons.add(resetProfile);
+		profile.add(profileButtons);
+
+		profileText.setEditable(false);
+		profileText.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		profile.add(new JScrollPane(profileText));
+		add(profile);
 
 		pack();
 	}
 
+	private void refreshTimings()
+	{
+		// all in ms, start/replay/stop are last/mean/max
+		StringBuilder sb = new StringBuilder(String.format(
+			"%-28s %5s %-20s %-20s %-20s%n",
+			"component", "n", "startUp", "replay", "shutDown"
+		));
+		for (ComponentTimings.Timing t : componentTimings.snapshot())
+		{
+			sb.append(String.format(
+				"%-28s %5d %-20s %-20s %-20s%n",
+				t.getComponent(),
+				t.getStartUp().getCount(),
+				formatStats(t.getStartUp()),
+				formatStats(t.getReplay()),
+				formatStats(t.getShutDown())
+			));
+		}
+		timingsText.setText(sb.toString());
+	}
+
+	private static String formatStats(ComponentTimings.Stats stats)
+	{
+		if (stats.getCount() == 0)
+		{
+			return "-";
+		}
+
+		return String.format(
+			"%.2f/%.2f/%.2f",
+			stats.getLastNanos() / 1e6,
+			stats.getMeanNanos() / 1e6,
+			stats.getMaxNanos() / 1e6
+		);
+	}
+
 	private void modifierToggleCallback(Modifier m, int level)
 	{
 		if (level == 0)
@@ -141,6 +244,7 @@ public class FortisColosseumDebugPanel extends DevToolsFrame
 	public void open()
 	{
 		eventBus.register(this);
+		refreshTimings();
 		super.open();
 	}
 
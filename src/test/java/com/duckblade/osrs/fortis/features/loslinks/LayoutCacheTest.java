@@ -0,0 +1,113 @@
+package com.duckblade.osrs.fortis.features.loslinks;
+
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutAnalysis;
+import com.duckblade.osrs.fortis.features.loslinks.model.LayoutFingerprint;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.google.gson.Gson;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LayoutCacheTest
+{
+
+	@TempDir
+	File dir;
+
+	@Test
+	void persistsAcrossRestarts() throws Exception
+	{
+		LayoutFingerprint layout = LayoutFingerprint.parse("7:20c3,40de");
+
+		LayoutCache cache = startCache();
+		assertNull(cache.get(layout));
+		cache.update(layout, a ->
+		{
+			a.setSeen(3);
+			a.setBestTicks(250);
+			a.setSolverPath(new int[]{1, 2, 3});
+		});
+		stopCache(cache);
+		assertTrue(new File(dir, "layouts.json").exists());
+
+		LayoutCache reloaded = startCache();
+		reloaded.es.submit(() -> null).get();
+		LayoutAnalysis analysis = reloaded.get(layout);
+		assertEquals(3, analysis.getSeen());
+		assertEquals(250, analysis.getBestTicks());
+		assertEquals(-1, analysis.getSafeTiles());
+		assertArrayEquals(new int[]{1, 2, 3}, analysis.getSolverPath());
+		stopCache(reloaded);
+	}
+
+	@Test
+	void returnsCopies()
+	{
+		LayoutFingerprint layout = LayoutFingerprint.parse("2:");
+		LayoutCache cache = startCache();
+
+		cache.update(layout, a -> a.setSeen(1)).setSeen(10);
+		cache.get(layout).setSeen(20);
+		assertEquals(1, cache.get(layout).getSeen());
+		stopCache(cache);
+	}
+
+	@Test
+	void burstsOfUpdatesSaveTheLatestState() throws Exception
+	{
+		LayoutFingerprint layout = LayoutFingerprint.parse("3:");
+		LayoutCache cache = startCache();
+		for (int i = 1; i <= 50; i++)
+		{
+			int seen = i;
+			cache.update(layout, a -> a.setSeen(seen));
+		}
+		stopCache(cache);
+
+		LayoutCache reloaded = startCache();
+		reloaded.es.submit(() -> null).get();
+		assertEquals(50, reloaded.get(layout).getSeen());
+		stopCache(reloaded);
+	}
+
+	@Test
+	void updatesAfterShutDownAreKeptInMemory()
+	{
+		LayoutFingerprint layout = LayoutFingerprint.parse("4:");
+		LayoutCache cache = startCache();
+		stopCache(cache);
+
+		// a solver finishing late must still get its analysis back
+		assertEquals(2, cache.update(layout, a -> a.setSeen(2)).getSeen());
+		assertFalse(new File(dir, "layouts.json").exists());
+	}
+
+	private LayoutCache startCache()
+	{
+		LayoutCache cache = new LayoutCache(new PluginEventBus(new EventBus()), new Gson());
+		cache.cacheFile = new File(dir, "layouts.json");
+		cache.startUp();
+		return cache;
+	}
+
+	private static void stopCache(LayoutCache cache)
+	{
+		cache.shutDown();
+		try
+		{
+			cache.es.awaitTermination(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class ArenaNpcsTest
+{
+
+	@Test
+	void copiesAreIndependentAndCanGrow()
+	{
+		ArenaNpcs empty = new ArenaNpcs().copy();
+		for (int i = 0; i < 20; i++)
+		{
+			assertEquals(i, empty.add(i, i, i, 1, 1));
+		}
+		assertEquals(20, empty.count());
+
+		ArenaNpcs copy = empty.copy();
+		copy.add(20, 5, 6, 3, 15);
+		empty.clear();
+		assertEquals(21, copy.count());
+		assertEquals(19, copy.getX(19));
+		assertEquals(6, copy.getY(20));
+		assertEquals(15, copy.getAttackRange(20));
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ExposureSolverTest
+{
+
+	@Test
+	void standsStillWhenNothingCanAttack()
+	{
+		ExposurePlan plan = ExposureSolver.solve(VisibilityTable.colosseum(), new ArenaNpcs(), 16, 16, 5, 16);
+
+		assertEquals(0, plan.getExposure());
+		assertEquals(0, plan.getIdleExposure());
+		for (int tick = 1; tick <= 5; tick++)
+		{
+			assertEquals(ArenaGrid.index(16, 16), plan.getTile(tick));
+		}
+	}
+
+	@Test
+	void hidesFromRangedEnemies()
+	{
+		ArenaNpcs npcs = new ArenaNpcs();
+		npcs.add(1, 12, 0, 1, 15);
+		npcs.add(2, 0, 12, 1, 15);
+		ExposurePlan plan = ExposureSolver.solve(VisibilityTable.colosseum(), npcs, 12, 12, 6, 32);
+
+		assertTrue(plan.getExposure() < plan.getIdleExposure(), plan.toString());
+		int total = 0;
+		for (int tick = 1; tick <= plan.getTicks(); tick++)
+		{
+			total += plan.getExposure(tick);
+		}
+		assertEquals(plan.getExposure(), total);
+	}
+
+	@Test
+	void pathsAreWalkable()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		ExposurePlan plan = ExposureSolver.solve(table, RandomNpcs.create(new Random(3), 6), 11, 11, 8, 32);
+
+		int x = 11;
+		int y = 11;
+		for (int tick = 1; tick <= plan.getTicks(); tick++)
+		{
+			int nx = plan.getTile(tick) % ArenaGrid.SIZE;
+			int ny = plan.getTile(tick) / ArenaGrid.SIZE;
+			assertFalse(table.getGrid().isBlocked(nx, ny));
+			assertTrue(Math.max(Math.abs(nx - x), Math.abs(ny - y)) <= 2, plan.toString());
+			x = nx;
+			y = ny;
+		}
+	}
+
+	@Test
+	void resultDoesNotDependOnParallelism()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		ArenaNpcs npcs = RandomNpcs.create(new Random(5), 6);
+
+		ExposurePlan serial = solveOnPool(1, table, npcs);
+		ExposurePlan parallel = solveOnPool(4, table, npcs);
+
+		assertEquals(serial.toString(), parallel.toString());
+	}
+
+	private static ExposurePlan solveOnPool(int parallelism, VisibilityTable table, ArenaNpcs npcs)
+	{
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			return pool.submit(() -> ExposureSolver.solve(table, npcs, 20, 20, 8, 48)).join();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+}
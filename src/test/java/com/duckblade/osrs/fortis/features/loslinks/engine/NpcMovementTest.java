@@ -0,0 +1,81 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class NpcMovementTest
+{
+
+	@Test
+	void stepsTowardsTarget()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		assertEquals(ArenaGrid.index(17, 16), NpcMovement.step(table, 16, 16, 1, 1, 20, 16));
+		assertEquals(ArenaGrid.index(16, 15), NpcMovement.step(table, 16, 16, 1, 1, 16, 12));
+		assertEquals(ArenaGrid.index(6, 6), NpcMovement.step(table, 5, 5, 1, 1, 20, 20));
+	}
+
+	@Test
+	void pillarsBlockDiagonalSteps()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		// (8, 8) is the corner of the sw pillar, so it steps along x instead
+		assertEquals(ArenaGrid.index(8, 7), NpcMovement.step(table, 7, 7, 1, 1, 12, 12));
+		// a 3x3 sliding along the pillar's north face can't step south into it
+		assertEquals(ArenaGrid.index(9, 7), NpcMovement.step(table, 8, 7, 3, 1, 20, 12));
+	}
+
+	@Test
+	void staysPutWhenItCanAttack()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		assertEquals(ArenaGrid.index(16, 16), NpcMovement.step(table, 16, 16, 1, 15, 20, 16));
+		assertEquals(ArenaGrid.index(16, 16), NpcMovement.step(table, 16, 16, 1, 1, 17, 16));
+		// melee can't attack diagonally, so it steps alongside
+		assertEquals(ArenaGrid.index(17, 16), NpcMovement.step(table, 16, 16, 1, 1, 17, 17));
+	}
+
+	@Test
+	void parallelPredictionMatchesSequential()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		ArenaNpcs npcs = RandomNpcs.create(new Random(11), 8);
+
+		int[] candidates = new int[25];
+		for (int i = 0; i < candidates.length; i++)
+		{
+			candidates[i] = ArenaGrid.index(14 + i % 5, 14 + i / 5);
+		}
+
+		int ticks = 6;
+		MovementPrediction prediction;
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try
+		{
+			prediction = pool.submit(() -> MovementPrediction.compute(table, 100, npcs, candidates, ticks)).join();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+
+		assertEquals(100, prediction.getGameTick());
+		assertEquals(candidates.length, prediction.getCandidateCount());
+		int[] expected = new int[ticks];
+		for (int c = 0; c < candidates.length; c++)
+		{
+			for (int n = 0; n < npcs.count(); n++)
+			{
+				NpcMovement.predict(table, npcs.getX(n), npcs.getY(n), npcs.getSize(n), npcs.getAttackRange(n),
+					candidates[c] % ArenaGrid.SIZE, candidates[c] / ArenaGrid.SIZE, expected, 0, ticks);
+				for (int t = 1; t <= ticks; t++)
+				{
+					assertEquals(expected[t - 1], prediction.getPosition(c, n, t), "candidate " + c + " npc " + n + " tick " + t);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Random;
+
+/**
+ * Random melee and ranged npcs of sizes 1 to 3, placed so their whole footprint is inside the arena.
+ */
+final class RandomNpcs
+{
+
+	private RandomNpcs()
+	{
+	}
+
+	static ArenaNpcs create(Random random, int count)
+	{
+		ArenaNpcs npcs = new ArenaNpcs();
+		for (int i = 0; i < count; i++)
+		{
+			add(npcs, i, random);
+		}
+		return npcs;
+	}
+
+	static void add(ArenaNpcs npcs, int npcIndex, Random random)
+	{
+		int x = random.nextInt(ArenaGrid.SIZE - 3);
+		int y = 3 + random.nextInt(ArenaGrid.SIZE - 3);
+		int size = 1 + random.nextInt(3);
+		int attackRange = random.nextBoolean() ? 1 : 15;
+		npcs.add(npcIndex, x, y, size, attackRange);
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ThreatMapTest
+{
+
+	@Test
+	void meleeOnlyThreatensCardinalNeighbours()
+	{
+		ThreatMap map = new ThreatMap(VisibilityTable.colosseum());
+		map.beginUpdate();
+		map.update(1, 16, 16, 1, 1);
+		map.endUpdate();
+
+		assertEquals(1, map.getThreat(16, 16));
+		assertEquals(1, map.getThreat(17, 16));
+		assertEquals(1, map.getThreat(16, 15));
+		assertEquals(0, map.getThreat(17, 17));
+		assertEquals(0, map.getThreat(18, 16));
+		assertEquals(-1, map.getThreat(9, 9));
+	}
+
+	@Test
+	void onlyMovedNpcsAreRescored()
+	{
+		ThreatMap map = new ThreatMap(VisibilityTable.colosseum());
+		map.beginUpdate();
+		assertTrue(map.update(1, 3, 5, 3, 15));
+		assertTrue(map.update(2, 20, 30, 1, 1));
+		assertFalse(map.endUpdate());
+
+		map.beginUpdate();
+		assertFalse(map.update(1, 3, 5, 3, 15));
+		assertTrue(map.update(2, 21, 30, 1, 1));
+		assertFalse(map.endUpdate());
+
+		// npc 2 left the arena
+		map.beginUpdate();
+		assertFalse(map.update(1, 3, 5, 3, 15));
+		assertTrue(map.endUpdate());
+		assertEquals(0, map.getThreat(21, 30));
+	}
+
+	@Test
+	void incrementalUpdatesMatchRebuilding()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		ThreatMap incremental = new ThreatMap(table);
+		Random random = new Random(7);
+		ArenaNpcs npcs = RandomNpcs.create(random, 6);
+
+		for (int tick = 0; tick < 50; tick++)
+		{
+			if (tick != 0)
+			{
+				// about a third of the npcs move each tick
+				ArenaNpcs moved = new ArenaNpcs();
+				for (int i = 0; i < npcs.count(); i++)
+				{
+					if (random.nextInt(3) == 0)
+					{
+						RandomNpcs.add(moved, i, random);
+					}
+					else
+					{
+						moved.add(i, npcs.getX(i), npcs.getY(i), npcs.getSize(i), npcs.getAttackRange(i));
+					}
+				}
+				npcs = moved;
+			}
+
+			incremental.beginUpdate();
+			ThreatMap rebuilt = new ThreatMap(table);
+			rebuilt.beginUpdate();
+			for (int i = 0; i < npcs.count(); i++)
+			{
+				// some npcs sit out some ticks to exercise removal
+				if ((tick + i) % 7 != 0)
+				{
+					incremental.update(i, npcs.getX(i), npcs.getY(i), npcs.getSize(i), npcs.getAttackRange(i));
+					rebuilt.update(i, npcs.getX(i), npcs.getY(i), npcs.getSize(i), npcs.getAttackRange(i));
+				}
+			}
+			incremental.endUpdate();
+			rebuilt.endUpdate();
+
+			for (int y = 0; y < ArenaGrid.SIZE; y++)
+			{
+				for (int x = 0; x < ArenaGrid.SIZE; x++)
+				{
+					assertEquals(rebuilt.getThreat(x, y), incremental.getThreat(x, y), "tick " + tick + " tile " + x + "," + y);
+				}
+			}
+		}
+	}
+
+	@Test
+	void safestPrefersUnthreatenedThenNearest()
+	{
+		ThreatMap map = new ThreatMap(VisibilityTable.colosseum());
+		map.beginUpdate();
+		map.update(1, 16, 16, 1, 1);
+		map.endUpdate();
+
+		int[] out = new int[5];
+		assertEquals(3, map.findSafest(16, 16, out, 3));
+
+		// the player's own tile and its cardinal neighbours are threatened, so the diagonals come first
+		for (int i = 0; i < 3; i++)
+		{
+			int x = out[i] % ArenaGrid.SIZE;
+			int y = out[i] / ArenaGrid.SIZE;
+			assertEquals(0, map.getThreat(x, y));
+			assertEquals(1, Math.max(Math.abs(x - 16), Math.abs(y - 16)));
+		}
+		assertEquals(0, map.findSafest(16, 16, out, 0));
+	}
+
+}
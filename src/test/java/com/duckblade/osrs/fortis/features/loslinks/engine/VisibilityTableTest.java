@@ -0,0 +1,98 @@
+package com.duckblade.osrs.fortis.features.loslinks.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class VisibilityTableTest
+{
+
+	@Test
+	void pillarsAreBlocked()
+	{
+		ArenaGrid grid = ArenaGrid.COLOSSEUM;
+		int blocked = 0;
+		for (int y = 0; y < ArenaGrid.SIZE; y++)
+		{
+			for (int x = 0; x < ArenaGrid.SIZE; x++)
+			{
+				if (grid.isBlocked(x, y))
+				{
+					blocked++;
+				}
+			}
+		}
+		assertEquals(4 * 9, blocked);
+		assertTrue(grid.isBlocked(8, 25));
+		assertTrue(grid.isBlocked(25, 8));
+		assertFalse(grid.isBlocked(11, 25));
+		assertTrue(grid.isBlocked(-1, 0));
+		assertTrue(grid.isBlocked(0, ArenaGrid.SIZE));
+	}
+
+	@Test
+	void pillarsBlockLineOfSight()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+
+		// straight through the sw pillar
+		assertFalse(table.canSee(5, 24, 13, 24));
+		assertFalse(table.canSee(9, 20, 9, 30));
+
+		// along the open middle of the arena
+		assertTrue(table.canSee(0, 16, 33, 16));
+		assertTrue(table.canSee(16, 0, 16, 33));
+		assertTrue(table.canSee(5, 5, 5, 5));
+
+		// out of bounds and pillar tiles see nothing
+		assertFalse(table.canSee(-1, 16, 10, 16));
+		assertFalse(table.canSee(9, 24, 9, 24));
+	}
+
+	@Test
+	void tableMatchesDirectLineOfSight()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+		for (int fromY = 0; fromY < ArenaGrid.SIZE; fromY++)
+		{
+			for (int fromX = 0; fromX < ArenaGrid.SIZE; fromX++)
+			{
+				for (int toY = 0; toY < ArenaGrid.SIZE; toY++)
+				{
+					for (int toX = 0; toX < ArenaGrid.SIZE; toX++)
+					{
+						assertEquals(
+							LineOfSight.hasLineOfSight(ArenaGrid.COLOSSEUM, fromX, fromY, toX, toY),
+							table.canSee(fromX, fromY, toX, toY)
+						);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void largeNpcsSeeFromTheirNearestTile()
+	{
+		VisibilityTable table = VisibilityTable.colosseum();
+
+		// a 3x3 beyond the sw pillar can see past its corner from its north-east tile,
+		// which a 1x1 on the same sw tile can't
+		assertFalse(table.canSee(0, 27, 1, 11, 20));
+		assertTrue(table.canSee(0, 27, 3, 11, 20));
+	}
+
+	@Test
+	void visibleMaskHasABitPerNpc()
+	{
+		ArenaNpcs npcs = new ArenaNpcs();
+		npcs.add(100, 5, 24, 1, 15); // behind the sw pillar
+		npcs.add(101, 0, 16, 1, 15); // in the open
+		npcs.add(102, 16, 0, 3, 1);
+
+		long mask = VisibilityTable.colosseum().visibleMask(npcs, 13, 24);
+		assertEquals(0b110, mask);
+	}
+
+}
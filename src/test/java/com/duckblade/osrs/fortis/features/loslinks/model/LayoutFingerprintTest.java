@@ -0,0 +1,69 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import com.duckblade.osrs.fortis.util.spawns.Enemy;
+import java.util.Arrays;
+import net.runelite.api.Point;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class LayoutFingerprintTest
+{
+
+	@Test
+	void ignoresOrderIndicesAndOrbs()
+	{
+		WaveSpawnRecord a = record(5, new Point(16, 16),
+			new NpcSpawn(10, new Point(3, 30), Enemy.JAVELIN_COLOSSUS, false, null, false),
+			new NpcSpawn(11, new Point(30, 4), Enemy.MANTICORE, false, new ManticoreOrbOrder(), false)
+		);
+		WaveSpawnRecord b = record(5, new Point(2, 20),
+			new NpcSpawn(42, new Point(30, 4), Enemy.MANTICORE, false, null, true),
+			new NpcSpawn(7, new Point(3, 30), Enemy.JAVELIN_COLOSSUS, true, null, false)
+		);
+
+		assertEquals(LayoutFingerprint.of(a), LayoutFingerprint.of(b));
+		assertEquals(LayoutFingerprint.of(a).hashCode(), LayoutFingerprint.of(b).hashCode());
+		assertEquals(LayoutFingerprint.of(a).toString(), LayoutFingerprint.of(b).toString());
+	}
+
+	@Test
+	void distinguishesWavesEnemiesAndTiles()
+	{
+		LayoutFingerprint base = LayoutFingerprint.of(record(5, new Point(16, 16),
+			new NpcSpawn(1, new Point(3, 30), Enemy.JAVELIN_COLOSSUS, false, null, false)));
+
+		assertNotEquals(base, LayoutFingerprint.of(record(6, new Point(16, 16),
+			new NpcSpawn(1, new Point(3, 30), Enemy.JAVELIN_COLOSSUS, false, null, false))));
+		assertNotEquals(base, LayoutFingerprint.of(record(5, new Point(16, 16),
+			new NpcSpawn(1, new Point(3, 30), Enemy.SERPENT_SHAMAN, false, null, false))));
+		assertNotEquals(base, LayoutFingerprint.of(record(5, new Point(16, 16),
+			new NpcSpawn(1, new Point(30, 3), Enemy.JAVELIN_COLOSSUS, false, null, false))));
+		assertNotEquals(base, LayoutFingerprint.of(record(5, new Point(16, 16))));
+	}
+
+	@Test
+	void parsesItsOwnKey()
+	{
+		LayoutFingerprint fingerprint = LayoutFingerprint.of(record(11, new Point(16, 16),
+			new NpcSpawn(1, new Point(0, 33), Enemy.SHOCKWAVE_COLOSSUS, false, null, false),
+			new NpcSpawn(2, new Point(33, 0), Enemy.SERPENT_SHAMAN, true, null, false),
+			new NpcSpawn(3, new Point(12, 20), Enemy.MINOTAUR, true, null, false)
+		));
+
+		assertEquals(fingerprint, LayoutFingerprint.parse(fingerprint.toString()));
+		assertEquals(11, LayoutFingerprint.parse(fingerprint.toString()).getWave());
+		assertEquals(LayoutFingerprint.of(record(3, new Point(0, 0))), LayoutFingerprint.parse("3:"));
+
+		assertThrows(IllegalArgumentException.class, () -> LayoutFingerprint.parse(""));
+		assertThrows(IllegalArgumentException.class, () -> LayoutFingerprint.parse("3"));
+		assertThrows(IllegalArgumentException.class, () -> LayoutFingerprint.parse("3:zz"));
+	}
+
+	private static WaveSpawnRecord record(int wave, Point player, NpcSpawn... spawns)
+	{
+		return new WaveSpawnRecord(wave, player, Arrays.asList(spawns), true, false);
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.duckblade.osrs.fortis.features.loslinks.model;
+
+import com.duckblade.osrs.fortis.util.spawns.Enemy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Point;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class LosUrlCodecTest
+{
+
+	private static final String WAVE_11_URL = "https://los.colosim.com/?12204r.22204um.06092.27096.17255.09257.#4369_mm3";
+
+	@Test
+	void encodesLikeStringFormat()
+	{
+		List<NpcSpawn> spawns = new ArrayList<>();
+		for (Enemy enemy : Arrays.asList(Enemy.SERPENT_SHAMAN, Enemy.JAVELIN_COLOSSUS, Enemy.MINOTAUR, Enemy.SHOCKWAVE_COLOSSUS))
+		{
+			for (int x = -1; x <= 101; x += 17)
+			{
+				for (int y = 0; y <= 33; y += 11)
+				{
+					spawns.add(new NpcSpawn(spawns.size(), new Point(x, y), enemy, (x & 1) == 0, null, false));
+				}
+			}
+		}
+		spawns.add(new NpcSpawn(0, new Point(3, 4), Enemy.MANTICORE, false, orbs(ManticoreOrbType.RANGED, ManticoreOrbType.MAGIC, ManticoreOrbType.MELEE), true));
+		spawns.add(new NpcSpawn(0, new Point(30, 4), Enemy.MANTICORE, false, orbs(ManticoreOrbType.MELEE, ManticoreOrbType.MAGIC, ManticoreOrbType.RANGED), true));
+		spawns.add(new NpcSpawn(0, new Point(3, 30), Enemy.MANTICORE, false, new ManticoreOrbOrder(), false));
+
+		for (NpcSpawn spawn : spawns)
+		{
+			assertEquals(legacySegment(spawn), spawn.toLosUrlSegment());
+		}
+
+		for (boolean waveSpawn : new boolean[]{false, true})
+		{
+			for (boolean mm3 : new boolean[]{false, true})
+			{
+				WaveSpawnRecord record = new WaveSpawnRecord(5, new Point(17, 16), spawns, waveSpawn, mm3);
+				assertEquals(legacyUrl(record), record.toLoSUrl());
+			}
+		}
+	}
+
+	@Test
+	void decodesWhatItEncodes()
+	{
+		WaveSpawnRecord record = LosUrlCodec.decode(WAVE_11_URL, 11);
+		assertEquals(WAVE_11_URL, record.toLoSUrl());
+
+		assertEquals(11, record.getWave());
+		assertEquals(new Point(17, 17), record.getPlayerTile());
+		assertEquals(6, record.getSpawns().size());
+
+		NpcSpawn manticore = record.getSpawns().get(0);
+		assertEquals(Enemy.MANTICORE, manticore.getEnemyType());
+		assertEquals(new Point(12, 20), manticore.getSwTile());
+		assertEquals(orbs(ManticoreOrbType.RANGED, ManticoreOrbType.MAGIC, ManticoreOrbType.MELEE), manticore.getOrbOrder());
+		assertEquals(true, manticore.isManticoreCharged());
+
+		NpcSpawn uncharged = record.getSpawns().get(1);
+		assertEquals(false, uncharged.isManticoreCharged());
+		assertEquals(ManticoreOrbType.MAGIC, uncharged.getOrbOrder().getFirst());
+
+		NpcSpawn shaman = record.getSpawns().get(5);
+		assertEquals(Enemy.SERPENT_SHAMAN, shaman.getEnemyType());
+		assertEquals(true, shaman.isReinforcement());
+	}
+
+	@Test
+	void decodesFlagsAndEmptyWaves()
+	{
+		WaveSpawnRecord record = LosUrlCodec.decode("https://los.colosim.com/?#4369_ws_mm3", 1);
+		assertEquals(0, record.getSpawns().size());
+		assertEquals(true, record.isWaveSpawn());
+		assertEquals(true, record.isMm3());
+	}
+
+	@Test
+	void rejectsMalformedLinks()
+	{
+		for (String url : Arrays.asList(
+			"https://los.colosim.com/?12204r.",
+			"https://los.colosim.com/?12204r#4369",
+			"https://los.colosim.com/?1220.#4369",
+			"https://los.colosim.com/?12209.#4369",
+			"https://los.colosim.com/?12202x.#4369",
+			"https://los.colosim.com/?12204mr.#4369",
+			"https://los.colosim.com/?12204M.#4369",
+			"https://los.colosim.com/?#",
+			"https://los.colosim.com/?#4369_foo"
+		))
+		{
+			assertThrows(IllegalArgumentException.class, () -> LosUrlCodec.decode(url, 1), url);
+		}
+	}
+
+	private static ManticoreOrbOrder orbs(ManticoreOrbType first, ManticoreOrbType second, ManticoreOrbType third)
+	{
+		ManticoreOrbOrder orbOrder = new ManticoreOrbOrder();
+		orbOrder.saveOrb(first);
+		orbOrder.saveOrb(second);
+		orbOrder.saveOrb(third);
+		return orbOrder;
+	}
+
+	// the encoders as they were before LosUrlCodec
+	private static String legacySegment(NpcSpawn spawn)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(
+			"%02d%02d%d",
+			spawn.getSwTile().getX(),
+			spawn.getSwTile().getY(),
+			spawn.getEnemyType().getColosimLosId(spawn.isReinforcement())
+		));
+
+		if (spawn.getEnemyType() == Enemy.MANTICORE)
+		{
+			if (!spawn.isManticoreCharged())
+			{
+				sb.append('u');
+			}
+			sb.append(spawn.getOrbOrder().toLoSCode());
+		}
+
+		sb.append('.');
+		return sb.toString();
+	}
+
+	private static String legacyUrl(WaveSpawnRecord record)
+	{
+		StringBuilder urlBuilder = new StringBuilder("https://los.colosim.com/?");
+		for (NpcSpawn spawn : record.getSpawns())
+		{
+			urlBuilder.append(legacySegment(spawn));
+		}
+
+		urlBuilder.append("#").append(record.getPlayerTile().getX() + (256 * record.getPlayerTile().getY()));
+		if (record.isWaveSpawn())
+		{
+			urlBuilder.append("_ws");
+		}
+		if (record.isMm3())
+		{
+			urlBuilder.append("_mm3");
+		}
+		return urlBuilder.toString();
+	}
+
+}
@@ -1,10 +1,10 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
 import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
 import com.duckblade.osrs.fortis.util.TimerMode;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import net.runelite.client.eventbus.EventBus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -26,7 +26,7 @@ public class SplitsFileWriterTest
 	private FortisColosseumConfig config;
 
 	@Mock
-	private EventBus eventBus;
+	private PluginEventBus eventBus;
 
 	@BeforeEach
 	void setUp()
@@ -0,0 +1,75 @@
+package com.duckblade.osrs.fortis.features.timetracking;
+
+import com.duckblade.osrs.fortis.features.timetracking.history.RunRecord;
+import com.duckblade.osrs.fortis.features.timetracking.history.RunStore;
+import com.duckblade.osrs.fortis.features.timetracking.history.SplitComparison;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import com.duckblade.osrs.fortis.util.TimerMode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SplitsOverlayModeTest
+{
+
+	// wave 2 done in 95 ticks, 195 ticks of wave time so far
+	private static final Split WAVE_2 = new Split(2, 95, 210, 195);
+
+	// 110 ticks into wave 3
+	private static final Split WAVE_3_IN_PROGRESS = new Split(3, 110, 310, 195);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void deltasCompareAgainstTheStoredRuns() throws IOException
+	{
+		SplitComparison comparison;
+		try (RunStore store = RunStore.open(dir.resolve("runs.dat")))
+		{
+			store.append(run(100, 12));
+			store.append(run(90, 1)); // died on wave 2 after a best wave 1
+			comparison = SplitComparison.of(store);
+		}
+
+		assertEquals("-5", SplitsOverlayMode.DELTA_PB.formatSplit(TimerMode.TICKS, WAVE_2, comparison));
+		assertEquals("-0:03.00", SplitsOverlayMode.DELTA_PB.formatSplit(TimerMode.PRECISE, WAVE_2, comparison));
+		assertEquals("+5", SplitsOverlayMode.DELTA_SUM_OF_BEST.formatSplit(TimerMode.TICKS, WAVE_2, comparison));
+
+		assertEquals("+5", SplitsOverlayMode.DELTA_PB.formatInProgressSplit(TimerMode.TICKS, WAVE_3_IN_PROGRESS, comparison));
+		assertEquals("+15", SplitsOverlayMode.DELTA_SUM_OF_BEST.formatInProgressSplit(TimerMode.TICKS, WAVE_3_IN_PROGRESS, comparison));
+
+		// the total is compared at the wave it runs up to
+		assertEquals("+5", SplitsOverlayMode.DELTA_PB.formatTotal(TimerMode.TICKS, 305, 310, comparison, 3));
+		assertEquals("+15", SplitsOverlayMode.DELTA_SUM_OF_BEST.formatTotal(TimerMode.TICKS, 305, 310, comparison, 3));
+		assertEquals("-5", SplitsOverlayMode.DELTA_PB.formatTotal(TimerMode.TICKS, 195, 210, comparison, 2));
+	}
+
+	@Test
+	void deltasFallBackToTheWaveTime()
+	{
+		SplitComparison none = SplitComparison.NONE;
+		assertEquals("95", SplitsOverlayMode.DELTA_PB.formatSplit(TimerMode.TICKS, WAVE_2, none));
+		assertEquals("110", SplitsOverlayMode.DELTA_SUM_OF_BEST.formatInProgressSplit(TimerMode.TICKS, WAVE_3_IN_PROGRESS, none));
+		assertEquals("305", SplitsOverlayMode.DELTA_PB.formatTotal(TimerMode.TICKS, 305, 310, none, 3));
+		assertEquals("0", SplitsOverlayMode.DELTA_PB.formatTotal(TimerMode.TICKS, 0, 0, none, 0));
+
+		// other modes ignore the comparison
+		assertEquals("95", SplitsOverlayMode.WAVE_TIME.formatInProgressSplit(TimerMode.TICKS, WAVE_2, none));
+	}
+
+	private static RunRecord run(int ticksPerWave, int waves)
+	{
+		List<Split> splits = new ArrayList<>();
+		for (int wave = 1; wave <= waves; wave++)
+		{
+			splits.add(new Split(wave, ticksPerWave, wave * ticksPerWave, wave * ticksPerWave));
+		}
+		return RunRecord.of(0L, ModifierSet.EMPTY, splits);
+	}
+
+}
@@ -1,9 +1,10 @@
 package com.duckblade.osrs.fortis.features.timetracking;
 
 import com.duckblade.osrs.fortis.features.timetracking.livesplit.LiveSplitManager;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.util.chat.ChatDecoder;
+import com.duckblade.osrs.fortis.util.chat.WaveCompleted;
 import java.util.List;
-import net.runelite.api.ChatMessageType;
-import net.runelite.api.events.ChatMessage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,24 +20,27 @@ public class SplitsTrackerTest
 	@Mock
 	LiveSplitManager liveSplitManager;
 
+	@Mock
+	PluginEventBus eventBus;
+
 	@InjectMocks
 	SplitsTracker splitsTracker;
 
 	@Test
 	void wave12DurationShouldBeParsedFromOverallTime()
 	{
-		splitsTracker.onChatMessage(buildChatMessage("Wave 1 completed! Wave duration: 0:31.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 2 completed! Wave duration: 1:01.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 3 completed! Wave duration: 2:42.60"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 4 completed! Wave duration: 1:46.20"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 5 completed! Wave duration: 2:03.60"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 6 completed! Wave duration: 3:10.20"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 7 completed! Wave duration: 3:15.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 8 completed! Wave duration: 3:02.40"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 9 completed! Wave duration: 1:57.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 10 completed! Wave duration: 3:21.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 11 completed! Wave duration: 4:07.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 12 completed! Wave duration: 29:42.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 1 completed! Wave duration: 0:31.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 2 completed! Wave duration: 1:01.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 3 completed! Wave duration: 2:42.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 4 completed! Wave duration: 1:46.20"));
+		splitsTracker.onWaveCompleted(decode("Wave 5 completed! Wave duration: 2:03.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 6 completed! Wave duration: 3:10.20"));
+		splitsTracker.onWaveCompleted(decode("Wave 7 completed! Wave duration: 3:15.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 8 completed! Wave duration: 3:02.40"));
+		splitsTracker.onWaveCompleted(decode("Wave 9 completed! Wave duration: 1:57.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 10 completed! Wave duration: 3:21.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 11 completed! Wave duration: 4:07.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 12 completed! Wave duration: 29:42.60"));
 
 		List<Split> splits = splitsTracker.getSplits();
 		assertEquals(272, splits.get(11).getWaveDuration());
@@ -45,18 +49,18 @@ public class SplitsTrackerTest
 	@Test
 	void cumulativeWaveTimeShouldBeComputedFromTheSumOfAllWaves()
 	{
-		splitsTracker.onChatMessage(buildChatMessage("Wave 1 completed! Wave duration: 0:31.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 2 completed! Wave duration: 1:01.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 3 completed! Wave duration: 2:42.60"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 4 completed! Wave duration: 1:46.20"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 5 completed! Wave duration: 2:03.60"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 6 completed! Wave duration: 3:10.20"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 7 completed! Wave duration: 3:15.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 8 completed! Wave duration: 3:02.40"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 9 completed! Wave duration: 1:57.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 10 completed! Wave duration: 3:21.00"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 11 completed! Wave duration: 4:07.80"));
-		splitsTracker.onChatMessage(buildChatMessage("Wave 12 completed! Wave duration: 29:42.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 1 completed! Wave duration: 0:31.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 2 completed! Wave duration: 1:01.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 3 completed! Wave duration: 2:42.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 4 completed! Wave duration: 1:46.20"));
+		splitsTracker.onWaveCompleted(decode("Wave 5 completed! Wave duration: 2:03.60"));
+		splitsTracker.onWaveCompleted(decode("Wave 6 completed! Wave duration: 3:10.20"));
+		splitsTracker.onWaveCompleted(decode("Wave 7 completed! Wave duration: 3:15.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 8 completed! Wave duration: 3:02.40"));
+		splitsTracker.onWaveCompleted(decode("Wave 9 completed! Wave duration: 1:57.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 10 completed! Wave duration: 3:21.00"));
+		splitsTracker.onWaveCompleted(decode("Wave 11 completed! Wave duration: 4:07.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 12 completed! Wave duration: 29:42.60"));
 
 		List<Split> splits = splitsTracker.getSplits();
 		assertEquals(53, splits.get(0).getCumulativeWaveDuration());
@@ -65,9 +69,36 @@ public class SplitsTrackerTest
 		assertEquals(2971, splits.get(11).getCumulativeWaveDuration());
 	}
 
-	private ChatMessage buildChatMessage(String msg)
+	@Test
+	void runningTotalsShouldMatchTheSplits()
+	{
+		assertEquals(0, splitsTracker.getCumulativeWaveDuration());
+		assertEquals(-1, splitsTracker.getWaveCumulativeDuration());
+
+		splitsTracker.onWaveCompleted(decode("Wave 1 completed! Wave duration: 0:31.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 2 completed! Wave duration: 1:01.80"));
+		splitsTracker.onWaveCompleted(decode("Wave 3 completed! Wave duration: 2:42.60"));
+
+		int sum = 0;
+		assertEquals(0, splitsTracker.getCumulativeWaveDuration(0));
+		for (int i = 0; i < 3; i++)
+		{
+			sum += splitsTracker.getSplits().get(i).getWaveDuration();
+			assertEquals(sum, splitsTracker.getCumulativeWaveDuration(i + 1));
+		}
+		assertEquals(sum, splitsTracker.getCumulativeWaveDuration());
+		assertEquals(sum, splitsTracker.getWaveCumulativeDuration());
+
+		// restarting begins a new run
+		splitsTracker.startUp();
+		assertEquals(0, splitsTracker.getCumulativeWaveDuration());
+		splitsTracker.onWaveCompleted(decode("Wave 1 completed! Wave duration: 0:31.80"));
+		assertEquals(53, splitsTracker.getCumulativeWaveDuration());
+	}
+
+	private WaveCompleted decode(String msg)
 	{
-		return new ChatMessage(null, ChatMessageType.GAMEMESSAGE, null, msg, null, 0);
+		return (WaveCompleted) ChatDecoder.decode(msg);
 	}
 
 }
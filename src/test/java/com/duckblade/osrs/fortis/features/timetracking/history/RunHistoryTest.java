@@ -0,0 +1,132 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import com.duckblade.osrs.fortis.features.timetracking.Split;
+import com.duckblade.osrs.fortis.features.timetracking.SplitsTracker;
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.util.ColosseumState;
+import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RunHistoryTest
+{
+
+	private static final ColosseumState OUTSIDE = new ColosseumState(1, true, false, 1, false, ModifierSet.EMPTY);
+	private static final ColosseumState INSIDE = new ColosseumState(2, false, true, 1, false, ModifierSet.EMPTY);
+
+	@Mock
+	SplitsTracker splitsTracker;
+
+	@TempDir
+	File dir;
+
+	@Test
+	void appendsRunsWhenLeaving() throws Exception
+	{
+		when(splitsTracker.getSplits()).thenReturn(splits(100, 3));
+		RunHistory history = startHistory();
+		history.onColosseumStateChanged(new ColosseumStateChanged(INSIDE, OUTSIDE));
+		stopHistory(history);
+
+		try (RunStore store = RunStore.open(storePath()))
+		{
+			assertEquals(1, store.size());
+			assertEquals(100, store.read(0).getWaveTicks(3));
+		}
+	}
+
+	@Test
+	void skipsRunsWithoutSplits() throws Exception
+	{
+		when(splitsTracker.getSplits()).thenReturn(Collections.emptyList());
+		RunHistory history = startHistory();
+		history.onColosseumStateChanged(new ColosseumStateChanged(INSIDE, OUTSIDE));
+		stopHistory(history);
+
+		try (RunStore store = RunStore.open(storePath()))
+		{
+			assertEquals(0, store.size());
+		}
+	}
+
+	@Test
+	void loadsTheComparisonWhenEntering() throws Exception
+	{
+		RunHistory history = startHistory();
+		history.es.submit(() -> null).get();
+		assertEquals(-1, history.getComparison().getPersonalBest(12));
+
+		history.es.submit(() -> history.append(RunRecord.of(0L, ModifierSet.EMPTY, splits(90, 12)))).get();
+		// only reloaded once per run
+		assertEquals(-1, history.getComparison().getPersonalBest(12));
+
+		history.onColosseumStateChanged(new ColosseumStateChanged(OUTSIDE, INSIDE));
+		history.es.submit(() -> null).get();
+		assertEquals(90 * 12, history.getComparison().getPersonalBest(12));
+		assertEquals(90 * 5, history.getComparison().getSumOfBest(5));
+
+		stopHistory(history);
+		assertSame(SplitComparison.NONE, history.getComparison());
+	}
+
+	@Test
+	void closesTheStoreOnShutDown() throws Exception
+	{
+		RunHistory history = startHistory();
+		stopHistory(history);
+		assertTrue(history.es.isTerminated());
+
+		// appends after closing are dropped rather than written to a closed channel
+		history.append(RunRecord.of(0L, ModifierSet.EMPTY, splits(90, 1)));
+		try (RunStore store = RunStore.open(storePath()))
+		{
+			assertEquals(0, store.size());
+		}
+	}
+
+	private RunHistory startHistory()
+	{
+		RunHistory history = new RunHistory(new PluginEventBus(new EventBus()), splitsTracker);
+		history.storeFile = new File(dir, "runs.dat");
+		history.startUp();
+		return history;
+	}
+
+	private static void stopHistory(RunHistory history) throws InterruptedException
+	{
+		history.shutDown();
+		history.es.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	private Path storePath()
+	{
+		return new File(dir, "runs.dat").toPath();
+	}
+
+	private static List<Split> splits(int ticksPerWave, int waves)
+	{
+		List<Split> splits = new ArrayList<>();
+		for (int wave = 1; wave <= waves; wave++)
+		{
+			splits.add(new Split(wave, ticksPerWave, wave * ticksPerWave, wave * ticksPerWave));
+		}
+		return splits;
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.duckblade.osrs.fortis.features.timetracking.history;
+
+import com.duckblade.osrs.fortis.features.timetracking.Split;
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunStoreTest
+{
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void indexesBestsOnAppend() throws IOException
+	{
+		try (RunStore store = RunStore.open(dir.resolve("runs.dat")))
+		{
+			assertEquals(0, store.size());
+			assertEquals(-1, store.getPersonalBestIndex());
+			assertEquals(-1, store.getSumOfBest());
+			assertEquals(-1, store.getBestWaveTicks(1));
+
+			store.append(run(1, 100, 12));
+			store.append(run(2, 90, 5)); // died on wave 6
+			store.append(run(3, 95, 12));
+			store.append(run(4, 110, 12));
+
+			assertEquals(4, store.size());
+			assertEquals(2, store.getPersonalBestIndex());
+			assertEquals(95 * 12, store.getPersonalBestTicks());
+			assertEquals(95, store.getPersonalBestWaveTicks(1));
+			assertEquals(90, store.getBestWaveTicks(5));
+			assertEquals(95, store.getBestWaveTicks(6));
+			assertEquals(90 * 5 + 95 * 7, store.getSumOfBest());
+		}
+	}
+
+	@Test
+	void reopensFromTheHeader() throws IOException
+	{
+		Path path = dir.resolve("runs.dat");
+		ModifierSet.Builder modifiers = new ModifierSet.Builder();
+		modifiers.add(Modifier.MANTIMAYHEM, 3);
+		modifiers.add(Modifier.QUARTET, 1);
+		RunRecord withModifiers = RunRecord.of(1234L, modifiers.build(), splits(80, 12));
+
+		try (RunStore store = RunStore.open(path))
+		{
+			store.append(run(1, 100, 3));
+			store.append(withModifiers);
+		}
+		assertEquals(RunStore.HEADER_SIZE + 2 * RunStore.RECORD_SIZE, Files.size(path));
+
+		try (RunStore store = RunStore.open(path))
+		{
+			assertEquals(2, store.size());
+			assertEquals(1, store.getPersonalBestIndex());
+			assertEquals(80 * 12, store.getSumOfBest());
+
+			RunRecord incomplete = store.read(0);
+			assertFalse(incomplete.isComplete());
+			assertEquals(100, incomplete.getWaveTicks(3));
+			assertEquals(-1, incomplete.getWaveTicks(4));
+			assertEquals(300, incomplete.getCumulativeTicks(3));
+
+			RunRecord read = store.read(1);
+			assertEquals(withModifiers, read);
+			assertTrue(read.isComplete());
+			assertEquals(3, read.getModifierLevel(Modifier.MANTIMAYHEM));
+			assertEquals(1, read.getModifierLevel(Modifier.QUARTET));
+			assertEquals(0, read.getModifierLevel(Modifier.BEES));
+		}
+	}
+
+	@Test
+	void ignoresRecordsTheHeaderDoesntCount() throws IOException
+	{
+		Path path = dir.resolve("runs.dat");
+		try (RunStore store = RunStore.open(path))
+		{
+			store.append(run(1, 100, 12));
+		}
+
+		// as if the client died after writing a record but before updating the header
+		try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw"))
+		{
+			raf.setLength(RunStore.HEADER_SIZE + 2L * RunStore.RECORD_SIZE);
+		}
+
+		try (RunStore store = RunStore.open(path))
+		{
+			assertEquals(1, store.size());
+			store.append(run(2, 90, 12));
+			assertEquals(1, store.getPersonalBestIndex());
+			assertEquals(90, store.read(1).getWaveTicks(12));
+		}
+	}
+
+	@Test
+	void comparisonAccumulatesBests() throws IOException
+	{
+		try (RunStore store = RunStore.open(dir.resolve("runs.dat")))
+		{
+			store.append(run(1, 90, 5)); // died on wave 6
+			SplitComparison partial = SplitComparison.of(store);
+			assertEquals(-1, partial.getPersonalBest(1));
+			assertEquals(90 * 5, partial.getSumOfBest(5));
+			assertEquals(-1, partial.getSumOfBest(6));
+
+			store.append(run(2, 100, 12));
+			SplitComparison comparison = SplitComparison.of(store);
+			assertEquals(100 * 3, comparison.getPersonalBest(3));
+			assertEquals(100 * 12, comparison.getPersonalBest(12));
+			assertEquals(90 * 5 + 100, comparison.getSumOfBest(6));
+			assertEquals(90 * 5 + 100 * 7, comparison.getSumOfBest(12));
+		}
+	}
+
+	@Test
+	void rejectsOtherFiles() throws IOException
+	{
+		Path path = dir.resolve("runs.dat");
+		Files.write(path, new byte[RunStore.HEADER_SIZE]);
+		assertThrows(IOException.class, () -> RunStore.open(path));
+	}
+
+	private static RunRecord run(long timestamp, int ticksPerWave, int waves)
+	{
+		return RunRecord.of(timestamp, ModifierSet.EMPTY, splits(ticksPerWave, waves));
+	}
+
+	private static List<Split> splits(int ticksPerWave, int waves)
+	{
+		List<Split> splits = new ArrayList<>();
+		for (int wave = 1; wave <= waves; wave++)
+		{
+			splits.add(new Split(wave, ticksPerWave, wave * ticksPerWave, wave * ticksPerWave));
+		}
+		return splits;
+	}
+
+}
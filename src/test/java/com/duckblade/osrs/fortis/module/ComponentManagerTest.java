@@ -0,0 +1,199 @@
+package com.duckblade.osrs.fortis.module;
+
+import com.duckblade.osrs.fortis.FortisColosseumConfig;
+import com.duckblade.osrs.fortis.util.ColosseumState;
+import com.duckblade.osrs.fortis.util.ColosseumStateChanged;
+import com.duckblade.osrs.fortis.util.ColosseumStateField;
+import com.duckblade.osrs.fortis.util.ColosseumStateTracker;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.util.GameEventManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ComponentManagerTest
+{
+
+	private static final ColosseumState OUTSIDE = new ColosseumState(1, false, false, 1, false, ModifierSet.EMPTY);
+	private static final ColosseumState INSIDE = new ColosseumState(2, false, true, 1, false, ModifierSet.EMPTY);
+	private static final ColosseumState INSIDE_WAVE_2 = new ColosseumState(3, false, true, 2, false, ModifierSet.EMPTY);
+
+	@Mock
+	private PluginEventBus eventBus;
+
+	@Mock
+	private GameEventManager gameEventManager;
+
+	@Mock
+	private FortisColosseumConfig config;
+
+	@Mock
+	private ColosseumStateTracker stateTracker;
+
+	private final List<String> started = new ArrayList<>();
+
+	private TestComponent always;
+	private TestComponent colosseumOnly;
+	private TestComponent configOnly;
+	private TestComponent undeclared;
+	private TestComponent neverEnabled;
+	private ComponentManager componentManager;
+
+	@BeforeEach
+	void setUp()
+	{
+		always = new TestComponent("always", true, ImmutableSet.of(), ImmutableSet.of());
+		colosseumOnly = new TestComponent("colosseumOnly", true, ImmutableSet.of(), ImmutableSet.of(ColosseumStateField.IN_COLOSSEUM));
+		configOnly = new TestComponent("configOnly", true, ImmutableSet.of("someKey"), ImmutableSet.of());
+		undeclared = new TestComponent("undeclared", true, null, null);
+		neverEnabled = new TestComponent("neverEnabled", false, ImmutableSet.of(), ImmutableSet.of());
+
+		componentManager = new ComponentManager(
+			eventBus,
+			gameEventManager,
+			config,
+			stateTracker,
+			new ComponentTimings(),
+			ImmutableList.of(
+				always.registration(),
+				colosseumOnly.registration(),
+				configOnly.registration(),
+				undeclared.registration(),
+				neverEnabled.registration()
+			)
+		);
+
+		when(stateTracker.getCurrentState()).thenReturn(OUTSIDE);
+		componentManager.onPluginStart();
+		assertEquals(List.of("always", "colosseumOnly", "configOnly", "undeclared"), started);
+		started.clear();
+	}
+
+	@Test
+	void stateChangeShouldOnlyRevalidateDependents()
+	{
+		when(stateTracker.getCurrentState()).thenReturn(INSIDE);
+		componentManager.onColosseumStateChanged(new ColosseumStateChanged(OUTSIDE, INSIDE));
+		assertEquals(1, always.checks);
+		assertEquals(2, colosseumOnly.checks);
+		assertEquals(1, configOnly.checks);
+		assertEquals(2, undeclared.checks);
+
+		when(stateTracker.getCurrentState()).thenReturn(INSIDE_WAVE_2);
+		componentManager.onColosseumStateChanged(new ColosseumStateChanged(INSIDE, INSIDE_WAVE_2));
+		assertEquals(2, colosseumOnly.checks);
+		assertEquals(3, undeclared.checks);
+	}
+
+	@Test
+	void configChangeShouldOnlyRevalidateDependents()
+	{
+		componentManager.onConfigChanged(configChanged("someKey"));
+		componentManager.onConfigChanged(configChanged("otherKey"));
+		assertEquals(1, always.checks);
+		assertEquals(1, colosseumOnly.checks);
+		assertEquals(2, configOnly.checks);
+		assertEquals(3, undeclared.checks);
+	}
+
+	@Test
+	void revalidatedComponentsShouldStartInDeclaredOrder()
+	{
+		colosseumOnly.enabled = false;
+		undeclared.enabled = false;
+		componentManager.onConfigChanged(configChanged("anything"));
+		when(stateTracker.getCurrentState()).thenReturn(INSIDE);
+		componentManager.onColosseumStateChanged(new ColosseumStateChanged(OUTSIDE, INSIDE));
+		assertEquals(0, started.size());
+
+		colosseumOnly.enabled = true;
+		undeclared.enabled = true;
+		componentManager.onColosseumStateChanged(new ColosseumStateChanged(INSIDE, OUTSIDE));
+		assertEquals(List.of("colosseumOnly", "undeclared"), started);
+	}
+
+	@Test
+	void componentsShouldOnlyBeConstructedOnceEnabled()
+	{
+		assertEquals(1, always.constructions);
+		assertEquals(0, neverEnabled.constructions);
+
+		always.enabled = false;
+		componentManager.onPluginStop();
+		componentManager.onPluginStart();
+		always.enabled = true;
+		componentManager.onPluginStop();
+		componentManager.onPluginStart();
+		assertEquals(1, always.constructions);
+	}
+
+	private static ConfigChanged configChanged(String key)
+	{
+		ConfigChanged e = new ConfigChanged();
+		e.setGroup(FortisColosseumConfig.CONFIG_GROUP);
+		e.setKey(key);
+		return e;
+	}
+
+	private class TestComponent implements PluginLifecycleComponent
+	{
+
+		private final String name;
+		private final Set<String> configDependencies;
+		private final Set<ColosseumStateField> stateDependencies;
+
+		boolean enabled;
+		int checks = 0;
+		int constructions = 0;
+
+		TestComponent(String name, boolean enabled, Set<String> configDependencies, Set<ColosseumStateField> stateDependencies)
+		{
+			this.name = name;
+			this.enabled = enabled;
+			this.configDependencies = configDependencies;
+			this.stateDependencies = stateDependencies;
+		}
+
+		ComponentRegistration registration()
+		{
+			return new ComponentRegistration(
+				() ->
+				{
+					constructions++;
+					return this;
+				},
+				(config, state) ->
+				{
+					checks++;
+					return enabled;
+				},
+				configDependencies,
+				stateDependencies
+			);
+		}
+
+		@Override
+		public void startUp()
+		{
+			started.add(name);
+		}
+
+		@Override
+		public void shutDown()
+		{
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.duckblade.osrs.fortis.module;
+
+import java.util.List;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PluginEventBusTest
+{
+
+	private PluginEventBus pluginEventBus;
+	private TestSubscriber subscriber;
+
+	@BeforeEach
+	void setUp()
+	{
+		pluginEventBus = new PluginEventBus(new EventBus());
+		subscriber = new TestSubscriber();
+	}
+
+	@Test
+	void eventsShouldBeDeliveredInBothModes()
+	{
+		pluginEventBus.register(subscriber);
+		pluginEventBus.post("a");
+		pluginEventBus.setProfiling(true);
+		pluginEventBus.post("b");
+		pluginEventBus.setProfiling(false);
+		pluginEventBus.post("c");
+		pluginEventBus.unregister(subscriber);
+		pluginEventBus.post("d");
+
+		assertEquals(3, subscriber.strings);
+		assertTrue(pluginEventBus.snapshot().size() >= 1);
+	}
+
+	@Test
+	void profilingShouldCountCallsPerHandler()
+	{
+		pluginEventBus.setProfiling(true);
+		pluginEventBus.register(subscriber);
+		pluginEventBus.post("a");
+		pluginEventBus.post("b");
+		pluginEventBus.post(1);
+
+		List<HandlerProfile.Snapshot> snapshots = pluginEventBus.snapshot();
+		assertEquals(2, snapshots.size());
+		for (HandlerProfile.Snapshot s : snapshots)
+		{
+			if (s.getHandler().equals("TestSubscriber.onString"))
+			{
+				assertEquals("String", s.getEventType());
+				assertEquals(2, s.getCount());
+				assertTrue(s.getP50Nanos() <= s.getMaxNanos());
+			}
+			else
+			{
+				assertEquals("TestSubscriber.onInteger", s.getHandler());
+				assertEquals(1, s.getCount());
+			}
+		}
+
+		pluginEventBus.unregister(subscriber);
+		pluginEventBus.post("c");
+		assertEquals(2, subscriber.strings);
+	}
+
+	public static class TestSubscriber
+	{
+
+		int strings = 0;
+
+		@Subscribe
+		public void onString(String s)
+		{
+			strings++;
+		}
+
+		@Subscribe
+		public void onInteger(Integer i)
+		{
+		}
+
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.duckblade.osrs.fortis.util;
+
+import com.duckblade.osrs.fortis.module.PluginEventBus;
+import com.duckblade.osrs.fortis.util.chat.WaveCompleted;
+import com.duckblade.osrs.fortis.util.chat.WaveStarted;
+import java.util.EnumSet;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.VarbitChanged;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ColosseumStateTrackerTest
+{
+
+	@Mock
+	Client client;
+
+	@Mock
+	PluginEventBus eventBus;
+
+	@Mock
+	RegionTracker regionTracker;
+
+	@InjectMocks
+	ColosseumStateTracker tracker;
+
+	@Test
+	void publishesASnapshotOnlyWhenSomethingChanged()
+	{
+		when(regionTracker.isInColosseum()).thenReturn(true);
+		tracker.onGameTick(new GameTick());
+		ColosseumState entered = tracker.getCurrentState();
+		assertTrue(entered.isInColosseum());
+		assertEquals(1, entered.getWaveNumber());
+		assertFalse(entered.isWaveStarted());
+		assertEquals(1, entered.getVersion());
+
+		// nothing changed
+		tracker.onGameTick(new GameTick());
+		assertSame(entered, tracker.getCurrentState());
+
+		tracker.onWaveStarted(new WaveStarted(1));
+		tracker.onGameTick(new GameTick());
+		ColosseumState started = tracker.getCurrentState();
+		assertTrue(started.isWaveStarted());
+		assertEquals(2, started.getVersion());
+
+		when(client.getVarbitValue(Modifier.BEES.getLevelVarb())).thenReturn(2);
+		tracker.onWaveCompleted(new WaveCompleted(1, 53));
+		tracker.setModifiers(EnumSet.of(Modifier.BEES));
+		tracker.onGameTick(new GameTick());
+		ColosseumState completed = tracker.getCurrentState();
+		assertEquals(2, completed.getWaveNumber());
+		assertFalse(completed.isWaveStarted());
+		assertTrue(completed.getModifiers().has(Modifier.BEES));
+		assertEquals(2, completed.getModifiers().getLevel(Modifier.BEES));
+		assertEquals(3, completed.getVersion());
+
+		// the published snapshot doesn't see later changes to the working state
+		when(regionTracker.isInColosseum()).thenReturn(false);
+		tracker.onGameTick(new GameTick());
+		ColosseumState left = tracker.getCurrentState();
+		assertFalse(left.isInColosseum());
+		assertEquals(1, left.getWaveNumber());
+		assertTrue(left.getModifiers().isEmpty());
+		assertEquals(4, left.getVersion());
+		assertTrue(completed.getModifiers().has(Modifier.BEES));
+
+		ArgumentCaptor<ColosseumStateChanged> events = ArgumentCaptor.forClass(ColosseumStateChanged.class);
+		verify(eventBus, times(4)).post(events.capture());
+		List<ColosseumStateChanged> posted = events.getAllValues();
+		assertSame(entered, posted.get(0).getNewState());
+		assertSame(entered, posted.get(1).getPreviousState());
+		assertSame(completed, posted.get(3).getPreviousState());
+		assertSame(left, posted.get(3).getNewState());
+	}
+
+	@Test
+	void modifierLevelsFollowOnlyTheirVarbs()
+	{
+		when(regionTracker.isInColosseum()).thenReturn(true);
+		when(client.getVarbitValue(Modifier.BEES.getLevelVarb())).thenReturn(1);
+		tracker.setModifiers(EnumSet.of(Modifier.DYNAMIC_DUO, Modifier.BEES));
+		tracker.onGameTick(new GameTick());
+		ColosseumState selected = tracker.getCurrentState();
+		assertEquals(1, selected.getModifiers().getLevel(Modifier.DYNAMIC_DUO));
+
+		// varp changes don't belong to the modifiers that have no level varb
+		VarbitChanged varp = new VarbitChanged();
+		varp.setVarpId(1234);
+		varp.setVarbitId(-1);
+		varp.setValue(77);
+		tracker.onVarbitChanged(varp);
+		tracker.onGameTick(new GameTick());
+		assertSame(selected, tracker.getCurrentState());
+
+		VarbitChanged bees = new VarbitChanged();
+		bees.setVarbitId(Modifier.BEES.getLevelVarb());
+		bees.setValue(3);
+		tracker.onVarbitChanged(bees);
+		tracker.onGameTick(new GameTick());
+		ColosseumState upgraded = tracker.getCurrentState();
+		assertEquals(3, upgraded.getModifiers().getLevel(Modifier.BEES));
+		assertEquals(1, upgraded.getModifiers().getLevel(Modifier.DYNAMIC_DUO));
+		assertEquals(selected.getVersion() + 1, upgraded.getVersion());
+
+		verify(eventBus, times(2)).post(any(ColosseumStateChanged.class));
+	}
+
+}
@@ -14,8 +14,7 @@ public class DebugColosseumStateTrackerInterface
 
 	public void setModifiers(Collection<Modifier> modifiers)
 	{
-		stateTracker.getModifiers().clear();
-		stateTracker.getModifiers().addAll(modifiers);
+		stateTracker.setModifiers(modifiers);
 	}
 
 }
@@ -0,0 +1,98 @@
+package com.duckblade.osrs.fortis.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class IntObjectMapTest
+{
+
+	@Test
+	void putGetRemove()
+	{
+		IntObjectMap<String> map = new IntObjectMap<>(2);
+		assertNull(map.put(5, "a"));
+		assertNull(map.put(13, "b"));
+		assertEquals("a", map.put(5, "c"));
+
+		assertEquals(2, map.size());
+		assertEquals("c", map.get(5));
+		assertEquals("b", map.get(13));
+		assertNull(map.get(6));
+
+		assertEquals("c", map.remove(5));
+		assertNull(map.remove(5));
+		assertFalse(map.containsKey(5));
+		assertTrue(map.containsKey(13));
+		assertEquals(1, map.size());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(13));
+	}
+
+	@Test
+	void nullValuesAreRejected()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new IntObjectMap<>(1).put(1, null));
+	}
+
+	@Test
+	void iteratesEverySlotOnce()
+	{
+		IntObjectMap<Integer> map = new IntObjectMap<>(1);
+		for (int i = 0; i < 20; i++)
+		{
+			map.put(i * 7, i);
+		}
+
+		int count = 0;
+		int sum = 0;
+		for (int slot = 0; slot < map.capacity(); slot++)
+		{
+			Integer v = map.valueAt(slot);
+			if (v != null)
+			{
+				assertEquals(v * 7, map.keyAt(slot));
+				count++;
+				sum += v;
+			}
+		}
+		assertEquals(20, count);
+		assertEquals(190, sum);
+	}
+
+	@Test
+	void matchesHashMapUnderRandomOperations()
+	{
+		// small key range forces long probe runs and frequent removal shifts
+		Random random = new Random(42);
+		IntObjectMap<Integer> map = new IntObjectMap<>(4);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++)
+		{
+			int key = random.nextInt(64) - 8;
+			if (random.nextInt(3) == 0)
+			{
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+			else
+			{
+				assertEquals(expected.put(key, i), map.put(key, i));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (int key = -8; key < 56; key++)
+		{
+			assertEquals(expected.get(key), map.get(key));
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.duckblade.osrs.fortis.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ModifierSetTest
+{
+
+	@Test
+	void builderReportsOnlyRealChanges()
+	{
+		ModifierSet.Builder builder = new ModifierSet.Builder();
+		assertFalse(builder.clear());
+		assertSame(ModifierSet.EMPTY, builder.build());
+
+		assertTrue(builder.add(Modifier.BEES, 1));
+		assertFalse(builder.add(Modifier.BEES, 2));
+		assertTrue(builder.add(Modifier.QUARTET, 1));
+
+		// inactive modifiers and unchanged levels are ignored
+		assertFalse(builder.setLevel(Modifier.DOOM, 2));
+		assertFalse(builder.setLevel(Modifier.BEES, 1));
+		assertTrue(builder.setLevel(Modifier.BEES, 3));
+
+		ModifierSet set = builder.build();
+		assertEquals(Modifier.BEES.getBit() | Modifier.QUARTET.getBit(), set.getMask());
+		assertEquals(2, set.size());
+		assertEquals(Modifier.BEES, set.get(0));
+		assertEquals(Modifier.QUARTET, set.get(1));
+		assertEquals(3, set.getLevel(Modifier.BEES));
+		assertEquals(0, set.getLevel(Modifier.DOOM));
+		assertFalse(set.has(Modifier.DOOM));
+
+		// built sets are snapshots
+		assertTrue(builder.setLevel(Modifier.BEES, 2));
+		assertEquals(3, set.getLevel(Modifier.BEES));
+		assertNotEquals(set, builder.build());
+
+		assertTrue(builder.clear());
+		assertSame(ModifierSet.EMPTY, builder.build());
+	}
+
+}
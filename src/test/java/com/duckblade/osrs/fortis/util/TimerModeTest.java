@@ -0,0 +1,73 @@
+package com.duckblade.osrs.fortis.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+public class TimerModeTest
+{
+
+	@Test
+	void matchesLegacyFormatting()
+	{
+		StringBuilder sb = new StringBuilder();
+		for (TimerMode mode : TimerMode.values())
+		{
+			for (int ticks = -100; ticks <= 100_000; ticks++)
+			{
+				String expected = legacyFormat(mode, ticks);
+				assertEquals(expected, mode.format(ticks), mode + " " + ticks);
+
+				sb.setLength(0);
+				assertEquals(expected, mode.appendTo(sb, ticks).toString(), mode + " " + ticks);
+			}
+
+			assertEquals(legacyFormat(mode, Integer.MAX_VALUE), mode.format(Integer.MAX_VALUE));
+		}
+	}
+
+	@Test
+	void appendsWithoutClearing()
+	{
+		StringBuilder sb = new StringBuilder("Wave 1: ");
+		TimerMode.PRECISE.appendTo(sb, 53).append(" / ");
+		TimerMode.PRECISE.appendTo(sb, -1);
+		assertEquals("Wave 1: 0:31.80 / --:--.--", sb.toString());
+	}
+
+	@Test
+	void reusesCachedStrings()
+	{
+		assertSame(TimerMode.LAX.format(1234), TimerMode.LAX.format(1234));
+	}
+
+	// TimerMode.format before it was rewritten without String.format
+	private static String legacyFormat(TimerMode mode, int ticks)
+	{
+		if (ticks < 0)
+		{
+			return mode.getNullPattern();
+		}
+
+		int mins = (ticks / 100);
+		float secondsReal = (ticks % 100) * 0.6f;
+		int seconds = (int) secondsReal;
+		int tenths = Math.round((secondsReal - seconds) * 10f);
+
+		switch (mode)
+		{
+			case PRECISE:
+				return String.format("%d:%02d.%d0", mins, seconds, tenths);
+
+			case LAX:
+				return String.format("%d:%02d", mins, seconds);
+
+			case TICKS:
+				return String.valueOf(ticks);
+
+			default:
+				throw new IllegalStateException("Unimplemented timer mode format " + mode.name());
+		}
+	}
+
+}
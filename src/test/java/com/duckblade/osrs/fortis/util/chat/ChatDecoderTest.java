@@ -0,0 +1,52 @@
+package com.duckblade.osrs.fortis.util.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+public class ChatDecoderTest
+{
+
+	@Test
+	void waveStartShouldBeDecoded()
+	{
+		assertEquals(new WaveStarted(3), ChatDecoder.decode("<col=ef1020>Wave: 3</col>"));
+		assertEquals(new WaveStarted(11), ChatDecoder.decode("<col=ef1020>Wave: 11</col>"));
+		assertEquals(new WaveStarted(7), ChatDecoder.decode("Wave: 7"));
+	}
+
+	@Test
+	void waveCompletionShouldBeDecodedWithDuration()
+	{
+		assertEquals(new WaveCompleted(1, 53), ChatDecoder.decode("Wave 1 completed! Wave duration: 0:31.80"));
+		assertEquals(new WaveCompleted(2, 103), ChatDecoder.decode("Wave 2 completed! Wave duration: <col=ef1020>1:01.80</col>"));
+		assertEquals(new WaveCompleted(12, 2971), ChatDecoder.decode("Wave 12 completed! Wave duration: 29:42.60"));
+		assertEquals(new WaveCompleted(10, 201), ChatDecoder.decode("Wave 10 completed! Wave duration: 2:00.6"));
+	}
+
+	@Test
+	void waveCompletionWithoutDurationShouldStillBeDecoded()
+	{
+		assertEquals(new WaveCompleted(4, -1), ChatDecoder.decode("Wave 4 completed!"));
+	}
+
+	@Test
+	void solHereditShouldBeDecoded()
+	{
+		assertEquals(new SolHereditJumped(), ChatDecoder.decode("Sol Heredit jumps down from his seat..."));
+		assertEquals(new SolHereditJumped(), ChatDecoder.decode("<col=ef1020>Sol Heredit jumps down from his seat...</col>"));
+	}
+
+	@Test
+	void unrelatedMessagesShouldBeIgnored()
+	{
+		assertNull(ChatDecoder.decode(""));
+		assertNull(ChatDecoder.decode("<col=ef1020>"));
+		assertNull(ChatDecoder.decode("Welcome to Old School RuneScape."));
+		assertNull(ChatDecoder.decode("Waves crash against the shore."));
+		assertNull(ChatDecoder.decode("Wave"));
+		assertNull(ChatDecoder.decode("Wave 3 failed!"));
+		assertNull(ChatDecoder.decode("Sol Heredit says hello"));
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.duckblade.osrs.fortis.util.spawns;
+
+import com.duckblade.osrs.fortis.util.Modifier;
+import com.duckblade.osrs.fortis.util.ModifierSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class WaveSpawnsTest
+{
+
+	@Test
+	void definitionsShouldMatchHandWrittenRules()
+	{
+		for (int wave = 1; wave <= 12; wave++)
+		{
+			for (int quartet = 0; quartet <= 1; quartet++)
+			{
+				for (int dynamicDuo = 0; dynamicDuo <= 1; dynamicDuo++)
+				{
+					for (int bees = 0; bees <= 3; bees++)
+					{
+						ModifierSet.Builder builder = new ModifierSet.Builder();
+						if (quartet == 1)
+						{
+							builder.add(Modifier.QUARTET, 1);
+						}
+						if (dynamicDuo == 1)
+						{
+							builder.add(Modifier.DYNAMIC_DUO, 1);
+						}
+						if (bees != 0)
+						{
+							builder.add(Modifier.BEES, bees);
+						}
+
+						String desc = "wave " + wave + " " + builder.build();
+						WaveSpawns actual = WaveSpawns.forWave(wave, builder.build());
+						assertEquals(expectedSpawns(wave, quartet == 1, dynamicDuo == 1), actual.getSpawns(), desc);
+						assertEquals(expectedReinforcements(wave), actual.getReinforcements(), desc);
+						assertEquals(expectedModifierSpawns(bees), actual.getModifierSpawns(), desc);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void irrelevantModifiersShouldShareCachedSpawns()
+	{
+		ModifierSet.Builder builder = new ModifierSet.Builder();
+		builder.add(Modifier.MANTIMAYHEM, 3);
+		builder.add(Modifier.VOLATILITY, 2);
+		assertSame(WaveSpawns.forWave(7, ModifierSet.EMPTY), WaveSpawns.forWave(7, builder.build()));
+	}
+
+	@Test
+	void wavesOutsideDefinitionsShouldBeEmpty()
+	{
+		assertTrue(WaveSpawns.forWave(0, ModifierSet.EMPTY).getSpawns().isEmpty());
+		assertTrue(WaveSpawns.forWave(13, ModifierSet.EMPTY).getSpawns().isEmpty());
+	}
+
+	@Test
+	void malformedDefinitionsShouldBeRejected()
+	{
+		assertThrows(IllegalStateException.class, () -> WaveDefinitions.parse(new String[]{"1 spawn FREMENNIK"}));
+		assertThrows(IllegalStateException.class, () -> WaveDefinitions.parse(new String[]{"1 spawn NOT_AN_ENEMY 1"}));
+		assertThrows(IllegalStateException.class, () -> WaveDefinitions.parse(new String[]{"3-1 spawn FREMENNIK 1"}));
+		assertThrows(IllegalStateException.class, () -> WaveDefinitions.parse(new String[]{"1 spawn FREMENNIK level"}));
+	}
+
+	// the rules as they were written out by hand before waves.txt
+
+	private static List<WaveSpawn> expectedSpawns(int wave, boolean quartet, boolean dynamicDuo)
+	{
+		List<WaveSpawn> spawns = new ArrayList<>();
+		if (wave == 12)
+		{
+			if (quartet)
+			{
+				spawns.add(new WaveSpawn(1, Enemy.FREMENNIK));
+			}
+			spawns.add(new WaveSpawn(1, Enemy.SOL_HEREDIT));
+			return spawns;
+		}
+
+		spawns.add(new WaveSpawn(quartet ? 4 : 3, Enemy.FREMENNIK));
+		if (wave <= 6)
+		{
+			spawns.add(new WaveSpawn(1, Enemy.SERPENT_SHAMAN));
+		}
+		if (wave == 2 || wave == 3)
+		{
+			spawns.add(new WaveSpawn(wave - 1, Enemy.JAVELIN_COLOSSUS));
+		}
+		if (wave >= 5)
+		{
+			spawns.add(new WaveSpawn(2 - (wave % 2), Enemy.JAVELIN_COLOSSUS));
+		}
+		if (wave >= 4)
+		{
+			spawns.add(new WaveSpawn(wave <= 8 ? 1 : 2, Enemy.MANTICORE));
+		}
+		if (wave == 7 || wave == 8 || wave == 11)
+		{
+			spawns.add(new WaveSpawn(dynamicDuo ? 2 : 1, Enemy.SHOCKWAVE_COLOSSUS));
+		}
+		return spawns;
+	}
+
+	private static List<WaveSpawn> expectedReinforcements(int wave)
+	{
+		List<WaveSpawn> reinforcements = new ArrayList<>();
+		if (wave == 12)
+		{
+			return reinforcements;
+		}
+
+		if ((wave >= 4 && wave <= 6) || wave >= 10)
+		{
+			reinforcements.add(new WaveSpawn(1, Enemy.SERPENT_SHAMAN));
+		}
+		if (wave <= 6)
+		{
+			reinforcements.add(new WaveSpawn(1, Enemy.JAGUAR_WARRIOR));
+		}
+		if (wave >= 7)
+		{
+			reinforcements.add(new WaveSpawn(1, Enemy.MINOTAUR));
+		}
+		return reinforcements;
+	}
+
+	private static List<WaveSpawn> expectedModifierSpawns(int beesLevel)
+	{
+		return beesLevel == 0
+			? Collections.emptyList()
+			: Collections.singletonList(new WaveSpawn(beesLevel, Enemy.ANGRY_BEES));
+	}
+
+}